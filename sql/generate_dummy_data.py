@@ -53,6 +53,7 @@ random.seed(SEED)
 # reply_code -> post_code mapping (built during reply generation)
 root_reply_to_post = {}      # root reply_code -> post_code
 depth1_reply_to_post = {}    # depth-1 reply_code -> post_code
+depth1_reply_to_path = {}    # depth-1 reply_code -> materialized path
 
 def escape_sql(s):
     """Escape string for SQL"""
@@ -348,7 +349,7 @@ def generate_root_replies():
             if batch_count > 0:
                 f.write("\n")
 
-            f.write("INSERT INTO reply (reply_code, member_id, post_code, parent_reply_code, content, like_cnt, del_yn, created_by, modified_by, reg_time, update_time, version) VALUES\n")
+            f.write("INSERT INTO reply (reply_code, member_id, post_code, parent_reply_code, path, content, like_cnt, del_yn, created_by, modified_by, reg_time, update_time, version) VALUES\n")
 
             for i in range(start, end + 1):
                 reply_code = f"REP_{i:012d}"
@@ -371,7 +372,8 @@ def generate_root_replies():
                 root_reply_to_post[reply_code] = post_code
 
                 comma = "," if i < end else ";"
-                f.write(f"('{reply_code}', {member_id}, '{post_code}', {parent_reply_code}, '{escape_sql(content)}', "
+                path = f"{reply_code}/"
+                f.write(f"('{reply_code}', {member_id}, '{post_code}', {parent_reply_code}, '{path}', '{escape_sql(content)}', "
                        f"{like_cnt}, {del_yn}, '{created_by}', '{modified_by}', '{reg_time}', '{update_time}', {version}){comma}\n")
 
             batch_count += 1
@@ -411,7 +413,7 @@ def generate_depth1_replies():
             if batch_count > 0:
                 f.write("\n")
 
-            f.write("INSERT INTO reply (reply_code, member_id, post_code, parent_reply_code, content, like_cnt, del_yn, created_by, modified_by, reg_time, update_time, version) VALUES\n")
+            f.write("INSERT INTO reply (reply_code, member_id, post_code, parent_reply_code, path, content, like_cnt, del_yn, created_by, modified_by, reg_time, update_time, version) VALUES\n")
 
             for i in range(start, end + 1):
                 reply_idx = start_idx + i - 1
@@ -439,7 +441,9 @@ def generate_depth1_replies():
                 depth1_reply_to_post[reply_code] = post_code
 
                 comma = "," if i < end else ";"
-                f.write(f"('{reply_code}', {member_id}, '{post_code}', '{parent_reply_code}', '{escape_sql(content)}', "
+                path = f"{parent_reply_code}/{reply_code}/"
+                depth1_reply_to_path[reply_code] = path
+                f.write(f"('{reply_code}', {member_id}, '{post_code}', '{parent_reply_code}', '{path}', '{escape_sql(content)}', "
                        f"{like_cnt}, {del_yn}, '{created_by}', '{modified_by}', '{reg_time}', '{update_time}', {version}){comma}\n")
 
             batch_count += 1
@@ -477,7 +481,7 @@ def generate_depth2_replies():
             if batch_count > 0:
                 f.write("\n")
 
-            f.write("INSERT INTO reply (reply_code, member_id, post_code, parent_reply_code, content, like_cnt, del_yn, created_by, modified_by, reg_time, update_time, version) VALUES\n")
+            f.write("INSERT INTO reply (reply_code, member_id, post_code, parent_reply_code, path, content, like_cnt, del_yn, created_by, modified_by, reg_time, update_time, version) VALUES\n")
 
             for i in range(start, end + 1):
                 reply_idx = start_idx + i - 1
@@ -508,7 +512,8 @@ def generate_depth2_replies():
                 version = 0
 
                 comma = "," if i < end else ";"
-                f.write(f"('{reply_code}', {member_id}, '{post_code}', '{parent_reply_code}', '{escape_sql(content)}', "
+                path = f"{depth1_reply_to_path[parent_reply_code]}{reply_code}/"
+                f.write(f"('{reply_code}', {member_id}, '{post_code}', '{parent_reply_code}', '{path}', '{escape_sql(content)}', "
                        f"{like_cnt}, {del_yn}, '{created_by}', '{modified_by}', '{reg_time}', '{update_time}', {version}){comma}\n")
 
             batch_count += 1
@@ -0,0 +1,80 @@
+package com.booktalk_be.benchmark;
+
+import com.booktalk_be.common.utils.DistributedIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake ID 생성 처리량 비교 (synchronized vs CAS)
+ *
+ * 실행: ./gradlew jmh
+ * 스레드 수(1/8/64)별로 초당 생성 가능한 ID 수를 측정한다.
+ * 두 구현 모두 4096개/ms 상한이 있으므로, 상한에 도달한 뒤에는
+ * synchronized 구현은 monitor를 잡은 채 대기하고 CAS 구현은 다음 ms를 앞당겨 사용한다.
+ * CAS 구현의 선행은 app.id.max-drift-ms(기본 5ms)로 제한되어, 그 이상은 park로 벽시계를 기다린다.
+ * → 상한 이후 구간은 두 구현 모두 4096개/ms 근처로 수렴하므로 결과는 상한 적용 후 수치로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private SynchronizedIdGenerator synchronizedGenerator;
+    private DistributedIdGenerator casGenerator;
+
+    @Setup
+    public void setUp() {
+        synchronizedGenerator = new SynchronizedIdGenerator(1);
+        casGenerator = new DistributedIdGenerator(1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long synchronized_1thread() {
+        return synchronizedGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long synchronized_8threads() {
+        return synchronizedGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long synchronized_64threads() {
+        return synchronizedGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long cas_1thread() {
+        return casGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long cas_8threads() {
+        return casGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long cas_64threads() {
+        return casGenerator.nextId();
+    }
+
+    /**
+     * 배치 insert용 일괄 발급 (CAS 1회로 100개 예약)
+     */
+    @Benchmark
+    @Threads(8)
+    @OperationsPerInvocation(100)
+    public long[] casBulk100_8threads() {
+        return casGenerator.nextIds(100);
+    }
+}
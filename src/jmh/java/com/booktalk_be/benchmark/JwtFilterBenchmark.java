@@ -0,0 +1,85 @@
+package com.booktalk_be.benchmark;
+
+import com.booktalk_be.domain.auth.model.entity.AuthorityType;
+import com.booktalk_be.domain.auth.model.properties.JwtProperties;
+import com.booktalk_be.springconfig.auth.jwt.JwtAuthFilter;
+import com.booktalk_be.springconfig.auth.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 요청당 오버헤드 비교
+ *
+ * 실행: ./gradlew jmh
+ * - legacyTwoParses: 변경 전 방식 (요청마다 parser 2회 생성 + HMAC 검증 2회)
+ * - prebuiltParser: 재사용 parser로 1회 검증 (캐시 미적중 시 비용)
+ * - verifiedCache: 검증 완료 토큰 캐시 적중
+ * - filterPerRequest: JwtAuthFilter 전체 (토큰 추출 → claims → principal 구성 → chain)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-hmac-sha256-signing-0123456789";
+
+    private SecretKey key;
+    private JwtProvider jwtProvider;
+    private JwtAuthFilter jwtAuthFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretAccessKey(SECRET);
+        properties.setAccessExpiration(30 * 60 * 1000);
+        properties.setRefreshExpiration(24 * 60 * 60 * 1000);
+
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtProvider = new JwtProvider(properties);
+        jwtProvider.init();
+        jwtAuthFilter = new JwtAuthFilter(jwtProvider);
+        token = jwtProvider.generateAccessToken("bench@booktalk.com", 1, AuthorityType.COMMON);
+    }
+
+    @Benchmark
+    public Claims legacyTwoParses() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims prebuiltParser() {
+        return jwtProvider.getClaimsFromToken(token);
+    }
+
+    @Benchmark
+    public Claims verifiedCache() {
+        return jwtProvider.verifyAndGetClaims(token);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterPerRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/community/list");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            jwtAuthFilter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,101 @@
+package com.booktalk_be.benchmark;
+
+import com.booktalk_be.domain.nlk.responseDto.NlkBookDto;
+import com.booktalk_be.domain.nlk.responseDto.NlkSearchResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비교 기준용: streaming 전환 이전의 NLK 응답 처리
+ * (본문 String 변환 → readTree → findItemsNode → 필드별 replaceAll)
+ */
+public class LegacyNlkTreeDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    public LegacyNlkTreeDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public NlkSearchResponse decode(InputStream in, int pageNum, int pageSize) throws IOException {
+        // RestTemplate.getForObject(uri, String.class)와 동일하게 본문 전체를 String으로 읽음
+        String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        JsonNode root = objectMapper.readTree(body);
+
+        int total = root.path("result").path("total").asInt(
+                root.path("total").asInt(0)
+        );
+
+        JsonNode itemsNode = findItemsNode(root);
+
+        List<NlkBookDto> items = new ArrayList<>();
+        if (itemsNode != null && itemsNode.isArray()) {
+            for (JsonNode it : itemsNode) {
+                String title = stripHtml(firstNonEmpty(it, "title_info", "titleInfo", "title", "TITLE"));
+                String publisher = firstNonEmpty(it, "pubInfo");
+                String rawIsbn = firstNonEmpty(it, "isbn", "ISBN");
+                String isbn = rawIsbn == null ? "" : rawIsbn.replaceAll("[^0-9Xx]", "");
+                String author = stripHtml(firstNonEmpty(it, "author_info", "authorInfo", "author", "AUTHOR"));
+                String year = stripHtml(firstNonEmpty(it, "pub_year_info", "pubYearInfo", "pub_year", "PUB_YEAR"));
+                String cover = firstNonEmpty(it, "image_url", "IMAGE_URL", "bookImageURL");
+                String id = !isbn.isEmpty() ? isbn : firstNonEmpty(it, "control_no", "controlNo", "id");
+
+                if (!StringUtils.hasText(title)) {
+                    continue;
+                }
+
+                items.add(NlkBookDto.builder()
+                        .id(id)
+                        .title(title)
+                        .isbn(isbn)
+                        .author(author)
+                        .year(year)
+                        .cover(cover)
+                        .publisher(publisher)
+                        .build());
+            }
+        }
+
+        return NlkSearchResponse.builder()
+                .total(total)
+                .pageNum(pageNum)
+                .pageSize(pageSize)
+                .items(items)
+                .build();
+    }
+
+    private JsonNode findItemsNode(JsonNode root) {
+        JsonNode result = root.path("result");
+        if (result.isArray()) return result;
+        if (result.path("items").isArray()) return result.path("items");
+
+        if (root.path("items").isArray()) return root.path("items");
+        if (root.path("docs").isArray()) return root.path("docs");
+        if (root.path("channel").path("item").isArray()) return root.path("channel").path("item");
+
+        return null;
+    }
+
+    private String firstNonEmpty(JsonNode node, String... names) {
+        for (String name : names) {
+            JsonNode v = node.get(name);
+            if (v != null && !v.isNull()) {
+                String s = v.asText();
+                if (StringUtils.hasText(s)) return s;
+            }
+        }
+        return "";
+    }
+
+    private String stripHtml(String html) {
+        if (!StringUtils.hasText(html)) return "";
+        return html.replaceAll("<[^>]*>", "").trim();
+    }
+}
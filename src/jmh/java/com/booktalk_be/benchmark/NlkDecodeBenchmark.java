@@ -0,0 +1,82 @@
+package com.booktalk_be.benchmark;
+
+import com.booktalk_be.domain.nlk.responseDto.NlkSearchResponse;
+import com.booktalk_be.domain.nlk.service.NlkResponseDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NLK 응답 디코딩 비교 (String + readTree vs JsonParser streaming)
+ *
+ * 실행: ./gradlew jmh   (jmh 블록의 gc profiler로 gc.alloc.rate.norm = 호출당 할당 바이트 확인)
+ *
+ * 기본은 NLK 응답 형식(result[] + title_info/author_info 등 HTML 태그 포함)을 흉내 낸 응답을 items 개수별로 생성해 사용한다.
+ * 실제 녹화 응답으로 측정하려면 -Dnlk.sample=/path/to/response.json 을 지정한다. (지정 시 items 파라미터 무시)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NlkDecodeBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int items;
+
+    private byte[] body;
+    private LegacyNlkTreeDecoder treeDecoder;
+    private NlkResponseDecoder streamingDecoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        treeDecoder = new LegacyNlkTreeDecoder(objectMapper);
+        streamingDecoder = new NlkResponseDecoder(objectMapper.getFactory());
+
+        String sample = System.getProperty("nlk.sample");
+        body = sample != null
+                ? Files.readAllBytes(Path.of(sample))
+                : syntheticResponse(items).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public NlkSearchResponse tree() throws IOException {
+        return treeDecoder.decode(new ByteArrayInputStream(body), 1, items);
+    }
+
+    @Benchmark
+    public NlkSearchResponse streaming() throws IOException {
+        return streamingDecoder.decode(new ByteArrayInputStream(body), 1, items);
+    }
+
+    private static String syntheticResponse(int count) {
+        StringBuilder sb = new StringBuilder(count * 900);
+        sb.append("{\"total\":").append(count * 37).append(",\"pageNum\":1,\"result\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(',');
+            sb.append('{')
+                    .append("\"title_info\":\"<span class=\\\"searching_txt\\\">자바</span> 프로그래밍 입문 ").append(i).append("\",")
+                    .append("\"type_name\":\"도서\",\"place_info\":\"국립중앙도서관\",\"detail_link\":\"/search/searchDetail?contentType=Book&controlNo=KMO").append(200000000 + i).append("\",")
+                    .append("\"author_info\":\"홍길동 <span>지음</span>; 김철수 옮김\",")
+                    .append("\"pub_info\":\"한빛미디어\",\"pubInfo\":\"한빛미디어\",")
+                    .append("\"pub_year_info\":\"20").append(10 + i % 15).append("\",")
+                    .append("\"call_no\":\"005.133-").append(i).append("\",\"kdc_code_1s\":\"000\",\"kdc_name_1s\":\"총류\",")
+                    .append("\"control_no\":\"KMO").append(200000000 + i).append("\",")
+                    .append("\"image_url\":\"https://cover.nl.go.kr/kolis/2020/").append(i).append(".jpg\",")
+                    .append("\"isbn\":\"978-89-").append(1000 + i % 9000).append("-").append(100 + i % 900).append("-X\",")
+                    .append("\"media_name\":\"인쇄자료(책자형)\",\"menu_name\":\"도서\",\"lic_yn\":\"N\",\"lic_text\":\"\",")
+                    .append("\"reg_date\":\"2020-01-01\",\"class_no\":\"005.133\"")
+                    .append('}');
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+}
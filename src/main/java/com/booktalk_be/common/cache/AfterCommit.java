@@ -0,0 +1,28 @@
+package com.booktalk_be.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 진행 중인 트랜잭션이 있으면 커밋 이후, 없으면 즉시 실행
+ *
+ * 커밋 전에 캐시를 무효화하면 다른 요청이 커밋 전 데이터를 다시 캐시에 올릴 수 있다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
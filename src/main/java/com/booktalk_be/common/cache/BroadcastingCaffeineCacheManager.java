@@ -0,0 +1,141 @@
+package com.booktalk_be.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 로컬 Caffeine 캐시(L1) + 노드 간 무효화 전파
+ *
+ * - 값 저장/조회는 로컬 캐시만 사용
+ * - evict/clear(@CacheEvict 포함)는 로컬에 반영한 뒤 CacheInvalidationBus로 다른 노드에 전파
+ * - 다른 노드에서 받은 무효화는 로컬 캐시에만 반영 (재전파 없음)
+ */
+public class BroadcastingCaffeineCacheManager extends CaffeineCacheManager {
+
+    private final CacheInvalidationBus bus;
+
+    public BroadcastingCaffeineCacheManager(CacheInvalidationBus bus) {
+        this.bus = bus;
+        bus.subscribe(this::applyRemote);
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new BroadcastingCache(super.adaptCaffeineCache(name, cache));
+    }
+
+    private void applyRemote(CacheInvalidation invalidation) {
+        if (invalidation.kind() != CacheInvalidation.Kind.EVICT && invalidation.kind() != CacheInvalidation.Kind.CLEAR) {
+            return;
+        }
+        // 이 노드에서 아직 만들어지지 않은 캐시는 비울 것도 없음
+        if (!getCacheNames().contains(invalidation.cacheName())) {
+            return;
+        }
+        Cache cache = getCache(invalidation.cacheName());
+        if (!(cache instanceof BroadcastingCache broadcasting)) {
+            return;
+        }
+        Object key = CacheInvalidation.decodeKey(invalidation.key());
+        if (invalidation.kind() == CacheInvalidation.Kind.EVICT && key != null) {
+            broadcasting.local.evict(key);
+        } else {
+            broadcasting.local.clear();
+        }
+    }
+
+    private final class BroadcastingCache implements Cache {
+        private final Cache local;
+
+        private BroadcastingCache(Cache local) {
+            this.local = local;
+        }
+
+        @Override
+        public String getName() {
+            return local.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return local.getNativeCache();
+        }
+
+        @Override
+        @Nullable
+        public ValueWrapper get(Object key) {
+            return local.get(key);
+        }
+
+        @Override
+        @Nullable
+        public <T> T get(Object key, @Nullable Class<T> type) {
+            return local.get(key, type);
+        }
+
+        @Override
+        @Nullable
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return local.get(key, valueLoader);
+        }
+
+        @Override
+        @Nullable
+        public CompletableFuture<?> retrieve(Object key) {
+            return local.retrieve(key);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+            return local.retrieve(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, @Nullable Object value) {
+            local.put(key, value);
+        }
+
+        @Override
+        @Nullable
+        public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+            return local.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            local.evict(key);
+            publishEvict(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean present = local.evictIfPresent(key);
+            publishEvict(key);
+            return present;
+        }
+
+        @Override
+        public void clear() {
+            local.clear();
+            bus.publish(new CacheInvalidation(getName(), CacheInvalidation.Kind.CLEAR, null));
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean notEmpty = local.invalidate();
+            bus.publish(new CacheInvalidation(getName(), CacheInvalidation.Kind.CLEAR, null));
+            return notEmpty;
+        }
+
+        private void publishEvict(Object key) {
+            String encoded = CacheInvalidation.encodeKey(key);
+            bus.publish(new CacheInvalidation(getName(),
+                    encoded == null ? CacheInvalidation.Kind.CLEAR : CacheInvalidation.Kind.EVICT, encoded));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.booktalk_be.common.cache;
+
+/**
+ * 다른 노드로 전파되는 캐시 무효화 1건
+ *
+ * @param cacheName 대상 캐시 (관리자 목록 세대 증가는 AdminListCache.GENERATION_CHANNEL)
+ * @param key       EVICT는 encodeKey로 인코딩한 캐시 키, 세대 증가는 범위(scope)
+ */
+public record CacheInvalidation(String cacheName, Kind kind, String key) {
+
+    public enum Kind {
+        EVICT,
+        CLEAR,
+        CREATED,
+        MODIFIED,
+        MODERATED
+    }
+
+    /**
+     * 노드 간 전달 가능한 키 타입(String/Integer/Long)만 인코딩, 그 외는 null (CLEAR로 대체)
+     */
+    public static String encodeKey(Object key) {
+        if (key instanceof String s) {
+            return "s:" + s;
+        }
+        if (key instanceof Integer i) {
+            return "i:" + i;
+        }
+        if (key instanceof Long l) {
+            return "l:" + l;
+        }
+        return null;
+    }
+
+    public static Object decodeKey(String encoded) {
+        if (encoded == null || encoded.length() < 2 || encoded.charAt(1) != ':') {
+            return null;
+        }
+        String value = encoded.substring(2);
+        return switch (encoded.charAt(0)) {
+            case 's' -> value;
+            case 'i' -> Integer.valueOf(value);
+            case 'l' -> Long.valueOf(value);
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.booktalk_be.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 캐시 무효화 전파 채널
+ *
+ * 구현체:
+ * - JdbcCacheInvalidationBus: cache_invalidation_log 테이블 polling (기본, app.cache.invalidation.bus=jdbc)
+ * - InProcessCacheInvalidationBus: 단일 노드/테스트용 (app.cache.invalidation.bus=local)
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 다른 노드에 무효화 전파 (발행한 노드 자신에게는 다시 전달되지 않음)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 전파된다.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * 다른 노드에서 발행된 무효화 수신
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,51 @@
+package com.booktalk_be.common.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내 무효화 전파
+ *
+ * 같은 Hub에 연결된 bus끼리만 전달하므로, 테스트에서는 Hub 하나에 여러 bus를 연결해
+ * 여러 노드를 흉내낼 수 있다. 빈으로 등록되면 연결된 다른 노드가 없으므로 전파하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "local")
+public class InProcessCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final Hub hub;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public InProcessCacheInvalidationBus() {
+        this(new Hub());
+    }
+
+    public InProcessCacheInvalidationBus(Hub hub) {
+        this.hub = hub;
+        hub.nodes.add(this);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        AfterCommit.run(() -> {
+            for (InProcessCacheInvalidationBus node : hub.nodes) {
+                if (node != this) {
+                    node.listeners.forEach(listener -> listener.accept(invalidation));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    public static class Hub {
+        private final List<InProcessCacheInvalidationBus> nodes = new CopyOnWriteArrayList<>();
+    }
+}
@@ -0,0 +1,150 @@
+package com.booktalk_be.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * cache_invalidation_log 테이블 기반 무효화 전파
+ *
+ * 설계 근거:
+ * - 노드마다 Caffeine 로컬 캐시를 두므로 A 노드의 제재/복구가 B 노드에는 TTL이 끝날 때까지 반영되지 않음
+ * - 별도 메시지 브로커 없이 이미 공유 중인 MySQL에 무효화 로그를 남기고,
+ *   각 노드는 "id > 마지막 처리 id" PK 범위 조회로 새 행만 가져온다. (변경이 없으면 빈 range scan 1회)
+ * - AUTO_INCREMENT id는 커밋 순서와 다를 수 있어, 중간 id가 비어 있으면 gap-timeout 동안
+ *   watermark를 멈추고 이후 id만 중복 없이 처리한다. (롤백으로 생긴 gap은 timeout 후 건너뜀)
+ * - 발행 노드는 이미 로컬에 반영했으므로 origin이 같은 행은 무시
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidation_log (origin, cache_name, kind, cache_key) VALUES (?, ?, ?, ?)";
+    private static final String POLL_SQL =
+            "SELECT id, origin, cache_name, kind, cache_key FROM cache_invalidation_log " +
+            "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final String origin;
+    private final int batchSize;
+    private final long gapTimeoutMs;
+    private final int retentionHours;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    // watermark 이하 id는 모두 처리됨, appliedAbove는 watermark 초과 중 이미 처리한 id
+    private long watermark = -1;
+    private final TreeSet<Long> appliedAbove = new TreeSet<>();
+    private long gapSince;
+
+    private record Row(long id, String origin, CacheInvalidation invalidation) {}
+
+    public JdbcCacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.worker-id:0}") int workerId,
+                                    @Value("${app.cache.invalidation.batch-size:500}") int batchSize,
+                                    @Value("${app.cache.invalidation.gap-timeout-ms:5000}") long gapTimeoutMs,
+                                    @Value("${app.cache.invalidation.retention-hours:24}") int retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // 같은 worker-id로 재기동한 노드와 구분되도록 프로세스마다 고유값 부여
+        this.origin = "w" + workerId + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.batchSize = batchSize;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.retentionHours = retentionHours;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        // afterCommit 시점에는 기존 트랜잭션 커넥션이 아직 바인딩되어 있어 새 트랜잭션으로 기록
+        AfterCommit.run(() -> {
+            try {
+                requiresNew.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL,
+                        origin, invalidation.cacheName(), invalidation.kind().name(), invalidation.key()));
+            } catch (Exception e) {
+                log.warn("캐시 무효화 로그 기록 실패 {}", invalidation, e);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.poll-ms:1000}")
+    public synchronized void poll() {
+        if (watermark < 0) {
+            // 기동 이전 로그는 로컬 캐시가 비어 있으므로 반영할 필요 없음
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidation_log", Long.class);
+            watermark = maxId == null ? 0 : maxId;
+            return;
+        }
+
+        List<Row> rows = jdbcTemplate.query(POLL_SQL, (rs, i) -> new Row(
+                rs.getLong("id"),
+                rs.getString("origin"),
+                new CacheInvalidation(rs.getString("cache_name"),
+                        CacheInvalidation.Kind.valueOf(rs.getString("kind")),
+                        rs.getString("cache_key"))
+        ), watermark, batchSize);
+
+        for (Row row : rows) {
+            if (!appliedAbove.add(row.id()) || origin.equals(row.origin())) {
+                continue;
+            }
+            for (Consumer<CacheInvalidation> listener : listeners) {
+                try {
+                    listener.accept(row.invalidation());
+                } catch (Exception e) {
+                    log.warn("캐시 무효화 반영 실패 {}", row.invalidation(), e);
+                }
+            }
+        }
+        advanceWatermark();
+    }
+
+    private void advanceWatermark() {
+        while (appliedAbove.remove(watermark + 1)) {
+            watermark++;
+        }
+        if (appliedAbove.isEmpty()) {
+            gapSince = 0;
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (gapSince == 0) {
+            gapSince = now;
+        } else if (now - gapSince > gapTimeoutMs) {
+            // 롤백 등으로 끝내 채워지지 않는 id는 건너뜀
+            watermark = appliedAbove.first() - 1;
+            gapSince = 0;
+            advanceWatermark();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.purge-ms:3600000}")
+    public void purge() {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(
+                    "DELETE FROM cache_invalidation_log WHERE created_at < NOW(6) - INTERVAL ? HOUR LIMIT 10000",
+                    retentionHours);
+        } while (deleted == 10000);
+    }
+}
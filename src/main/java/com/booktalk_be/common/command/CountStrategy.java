@@ -0,0 +1,14 @@
+package com.booktalk_be.common.command;
+
+/**
+ * 관리자 검색 총 개수 계산 방식
+ *
+ * EXACT     : COUNT(*) 정확한 개수 (기본값)
+ * CAPPED    : countCap + 1건까지만 세고, 넘으면 "countCap건 이상"으로 응답
+ * ESTIMATED : EXPLAIN 예상 행 수 (키워드 검색이나 인덱스 range/ref 접근이 아닌 plan은 추정값이 무의미하므로 CAPPED로 대체)
+ */
+public enum CountStrategy {
+    EXACT,
+    CAPPED,
+    ESTIMATED
+}
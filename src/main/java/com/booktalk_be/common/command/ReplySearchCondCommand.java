@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,6 +22,13 @@ public class ReplySearchCondCommand extends SearchCondCommand {
     @JsonProperty("keywordType")
     private KeywordType type;
 
+    // 관리자 검색 총 개수 계산 방식 (CAPPED/ESTIMATED는 근사값, PageResponseDto.totalApproximate)
+    private CountStrategy countStrategy = CountStrategy.EXACT;
+
+    @Min(1)
+    @Max(100_000)
+    private int countCap = 1000;
+
     @RequiredArgsConstructor
     @JsonFormat(shape = JsonFormat.Shape.OBJECT)
     public enum KeywordType implements EntityEnumerable {
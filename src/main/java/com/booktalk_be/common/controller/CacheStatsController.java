@@ -0,0 +1,55 @@
+package com.booktalk_be.common.controller;
+
+import com.booktalk_be.common.responseDto.CacheStatsResponse;
+import com.booktalk_be.common.utils.ResponseDto;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/cache")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+
+    @GetMapping("/stats")
+    @Tag(name = "AdminPage API")
+    @Operation(summary = "캐시 통계 조회", description = "캐시별 적중/미적중/eviction/로딩 시간 통계를 조회합니다.")
+    public ResponseEntity<ResponseDto> getCacheStats() {
+        List<CacheStatsResponse> result = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+                continue;
+            }
+            CacheStats stats = nativeCache.stats();
+            result.add(CacheStatsResponse.builder()
+                    .name(name)
+                    .estimatedSize(nativeCache.estimatedSize())
+                    .hitCount(stats.hitCount())
+                    .missCount(stats.missCount())
+                    .hitRate(stats.hitRate())
+                    .evictionCount(stats.evictionCount())
+                    .evictionWeight(stats.evictionWeight())
+                    .loadSuccessCount(stats.loadSuccessCount())
+                    .loadFailureCount(stats.loadFailureCount())
+                    .averageLoadPenaltyMs(stats.averageLoadPenalty() / 1_000_000.0)
+                    .build());
+        }
+        return ResponseEntity.ok(ResponseDto.builder()
+                .code(200)
+                .data(result)
+                .build());
+    }
+}
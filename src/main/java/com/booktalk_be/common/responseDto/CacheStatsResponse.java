@@ -0,0 +1,33 @@
+package com.booktalk_be.common.responseDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CacheStatsResponse {
+    private String name;
+    @JsonProperty("estimated_size")
+    private long estimatedSize;
+    @JsonProperty("hit_count")
+    private long hitCount;
+    @JsonProperty("miss_count")
+    private long missCount;
+    @JsonProperty("hit_rate")
+    private double hitRate;
+    @JsonProperty("eviction_count")
+    private long evictionCount;
+    @JsonProperty("eviction_weight")
+    private long evictionWeight;
+    @JsonProperty("load_success_count")
+    private long loadSuccessCount;
+    @JsonProperty("load_failure_count")
+    private long loadFailureCount;
+    @JsonProperty("average_load_penalty_ms")
+    private double averageLoadPenaltyMs;
+}
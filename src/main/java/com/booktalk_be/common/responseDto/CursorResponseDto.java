@@ -0,0 +1,27 @@
+package com.booktalk_be.common.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이징 응답
+ * - nextCursor: 다음 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+ * - 기본적으로 COUNT 쿼리를 수행하지 않으므로 전체 건수/페이지 수는 포함하지 않는다.
+ * - totalElements: 첫 페이지(cursor 없음)에서만 채우는 API가 있으며, 그 외에는 null
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorResponseDto<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements;
+
+}
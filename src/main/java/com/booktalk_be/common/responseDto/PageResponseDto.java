@@ -16,5 +16,7 @@ public class PageResponseDto<T> {
     private List<T> content;
     private int totalPages;
     private long totalElements;
+    // true면 totalElements/totalPages가 근사값 (CAPPED 상한 도달 또는 ESTIMATED)
+    private boolean totalApproximate;
 
 }
@@ -0,0 +1,38 @@
+package com.booktalk_be.common.responseDto;
+
+import com.booktalk_be.common.command.CountStrategy;
+
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * 목록 총 개수와 근사값 여부
+ */
+public record TotalCount(long value, boolean approximate) {
+
+    public static TotalCount exact(long value) {
+        return new TotalCount(value, false);
+    }
+
+    /**
+     * @param countAll COUNT(*) 조회
+     * @param upTo     최대 n건까지만 센 개수 조회 (인자: n)
+     * @param estimate 예상 행 수 조회 (추정 불가면 empty)
+     */
+    public static TotalCount resolve(CountStrategy strategy, int cap,
+                                     LongSupplier countAll, LongUnaryOperator upTo, Supplier<OptionalLong> estimate) {
+        if (strategy == null || strategy == CountStrategy.EXACT) {
+            return exact(countAll.getAsLong());
+        }
+        if (strategy == CountStrategy.ESTIMATED) {
+            OptionalLong estimated = estimate.get();
+            if (estimated.isPresent()) {
+                return new TotalCount(estimated.getAsLong(), true);
+            }
+        }
+        long counted = upTo.applyAsLong(cap + 1L);
+        return counted > cap ? new TotalCount(cap, true) : exact(counted);
+    }
+}
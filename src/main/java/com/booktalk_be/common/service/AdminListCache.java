@@ -0,0 +1,289 @@
+package com.booktalk_be.common.service;
+
+import com.booktalk_be.common.cache.AfterCommit;
+import com.booktalk_be.common.cache.CacheInvalidation;
+import com.booktalk_be.common.cache.CacheInvalidationBus;
+import com.booktalk_be.common.responseDto.PageResponseDto;
+import com.booktalk_be.common.responseDto.TotalCount;
+import com.booktalk_be.springconfig.CacheConfig;
+import com.booktalk_be.springconfig.CacheSpecProperties;
+import com.booktalk_be.springconfig.CacheWeigher;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 관리자 목록 캐시 (범위별 세대 무효화 + stampede 방지 비동기 로딩)
+ *
+ * 설계 근거:
+ * - 사용자 글/댓글 작성마다 allEntries evict를 하면 게시가 몰리는 시간대에
+ *   관리자 목록이 매 요청 1~2초짜리 COUNT 쿼리를 다시 실행하게 된다.
+ * - 캐시 항목에 적재 시점의 범위(scope) 세대를 찍어 두고, 쓰기는 영향받는 범위의 세대만 올린다.
+ *   세대가 달라진 항목만 낡은 것으로 보고 나머지 범위/필터의 항목은 그대로 사용한다.
+ * - 세대 종류
+ *     created   : 신규 작성 — 종료일이 오늘 이전인 기간 검색 결과는 바뀌지 않으므로 무시
+ *     modified  : 작성자 수정/삭제 — 범위 내 모든 목록에 영향
+ *     moderated : 관리자 제재/복구 — 처리 결과를 바로 확인해야 하므로 항상 동기 재조회
+ * - 세대 증가는 커밋 이후에 수행하여, 커밋 전 데이터를 새 세대로 적재하는 경우를 막는다.
+ * - 세대 증가는 CacheInvalidationBus로 다른 노드에도 전파되어 노드마다 같은 범위가 낡은 것으로 판정된다.
+ *
+ * 로딩:
+ * - 캐시별 Caffeine AsyncLoadingCache를 사용하여 같은 키의 동시 miss는 loader 1건만 실행하고 나머지는 결과를 기다린다.
+ * - 총 개수(COUNT)는 페이지 내용과 별도 키(필터 단위)로 캐시하여 페이지를 넘겨도 다시 세지 않는다.
+ *   페이지 내용(offset/limit)과 총 개수는 동시에 조회한다.
+ * - 사용자 쓰기로 낡은 총 개수와 첫 페이지는 기존 값을 응답하고 백그라운드에서 갱신(refresh-ahead),
+ *   app.cache.specs.<이름>.refresh-after-write가 지나도 같은 방식으로 갱신된다.
+ * - 호출 스레드는 loader 완료를 기다리는 동안 커넥션을 잡고 있으면 안 된다. (트랜잭션 밖에서 호출)
+ *   loader는 admin-cache-load-* 스레드에서 별도 커넥션으로 실행되므로, 대기 스레드가 풀을 모두 점유하면
+ *   동시 miss 시 loader가 connectionTimeout까지 커넥션을 얻지 못하고 모든 대기 요청이 실패한다.
+ * - 총 개수는 근사값 여부(TotalCount)와 함께 캐시되어 응답의 totalApproximate로 전달된다.
+ */
+@Component
+public class AdminListCache {
+
+    public static final String GENERATION_CHANNEL = "adminListGeneration";
+
+    private static final int COUNT_PAGE = 0;
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheSpecProperties cacheSpecs;
+    private final ExecutorService loadExecutor;
+    private final ConcurrentHashMap<String, Generation> generations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AsyncLoadingCache<Object, Object>> caches = new ConcurrentHashMap<>();
+
+    public AdminListCache(CacheManager cacheManager,
+                          CacheInvalidationBus invalidationBus,
+                          CacheSpecProperties cacheSpecs,
+                          @Value("${app.cache.admin.load-threads:4}") int loadThreads) {
+        this.cacheManager = cacheManager;
+        this.invalidationBus = invalidationBus;
+        this.cacheSpecs = cacheSpecs;
+        invalidationBus.subscribe(this::applyRemote);
+        AtomicInteger seq = new AtomicInteger();
+        this.loadExecutor = Executors.newFixedThreadPool(Math.max(2, loadThreads), r -> {
+            Thread t = new Thread(r, "admin-cache-load-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * @param scope   무효화 범위 (예: board, reply:BO_)
+     * @param filter  범위 내 목록을 구분하는 키 (전체 목록/검색 조건)
+     * @param endDate 검색 종료일 (전체 목록이면 null)
+     * @param content 페이지 내용 조회
+     * @param count   필터 전체 개수 조회 (정확/상한/추정)
+     */
+    public <T> PageResponseDto<T> getPage(String cacheName, String scope, String filter, LocalDate endDate,
+                                          int pageNum, int pageSize,
+                                          Function<Pageable, List<T>> content, Supplier<TotalCount> count) {
+        AsyncLoadingCache<Object, Object> cache = caches.computeIfAbsent(cacheName, this::createCache);
+        boolean includesToday = endDate == null || !endDate.isBefore(LocalDate.now());
+
+        Key pageKey = new Key(scope, filter, pageNum, pageSize,
+                () -> content.apply(PageRequest.of(pageNum - 1, pageSize)));
+        Key countKey = new Key(scope, filter, COUNT_PAGE, 0, count::get);
+
+        CompletableFuture<Object> rows = lookup(cache, pageKey, includesToday, pageNum == 1);
+        CompletableFuture<Object> total = lookup(cache, countKey, includesToday, true);
+
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) join(rows);
+        TotalCount totalCount = (TotalCount) join(total);
+        long totalElements = totalCount.value();
+        return PageResponseDto.<T>builder()
+                .content(list)
+                .totalPages((int) ((totalElements + pageSize - 1) / pageSize))
+                .totalElements(totalElements)
+                .totalApproximate(totalCount.approximate())
+                .build();
+    }
+
+    public void onCreated(String... scopes) {
+        publish(scopes, CacheInvalidation.Kind.CREATED);
+    }
+
+    public void onModified(String... scopes) {
+        publish(scopes, CacheInvalidation.Kind.MODIFIED);
+    }
+
+    public void onModerated(String... scopes) {
+        publish(scopes, CacheInvalidation.Kind.MODERATED);
+    }
+
+    private CompletableFuture<Object> lookup(AsyncLoadingCache<Object, Object> cache, Key key,
+                                             boolean includesToday, boolean refreshAhead) {
+        CompletableFuture<Object> future = cache.get(key);
+        return future.thenCompose(v -> {
+            Stamped entry = (Stamped) v;
+            Generation current = generation(key.scope);
+            if (entry.generation().isFresh(current, includesToday)) {
+                return CompletableFuture.completedFuture(entry.value());
+            }
+            if (refreshAhead && entry.generation().moderated() == current.moderated()) {
+                // 진행 중인 refresh가 있으면 Caffeine이 그 future를 재사용 (키당 1건)
+                cache.synchronous().refresh(key);
+                return CompletableFuture.completedFuture(entry.value());
+            }
+            // 낡은 항목을 제거하고 다시 적재: 동시에 들어온 요청은 같은 로딩 future를 공유
+            cache.asMap().remove(key, future);
+            return cache.get(key).thenApply(reloaded -> ((Stamped) reloaded).value());
+        });
+    }
+
+    private AsyncLoadingCache<Object, Object> createCache(String cacheName) {
+        CacheSpecProperties.Spec spec = cacheSpecs.specFor(cacheName);
+        Caffeine<Object, Object> builder = CacheConfig.builder(spec).executor(loadExecutor);
+        if (spec.getRefreshAfterWrite() != null) {
+            builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+        }
+        AsyncLoadingCache<Object, Object> cache = builder.buildAsync(key -> load((Key) key));
+        // 통계 조회(/admin/cache/stats)에 함께 노출
+        if (cacheManager instanceof CaffeineCacheManager caffeineCacheManager) {
+            caffeineCacheManager.registerCustomCache(cacheName, cache);
+        }
+        return cache;
+    }
+
+    private Stamped load(Key key) {
+        // 적재 도중 쓰기가 들어오면 이전 세대가 찍혀 다음 조회에서 다시 낡은 것으로 판정된다.
+        Generation before = generation(key.scope);
+        return new Stamped(before, key.loader.get());
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    private void publish(String[] scopes, CacheInvalidation.Kind kind) {
+        AfterCommit.run(() -> {
+            for (String scope : scopes) {
+                bump(scope, kind);
+            }
+        });
+        for (String scope : scopes) {
+            invalidationBus.publish(new CacheInvalidation(GENERATION_CHANNEL, kind, scope));
+        }
+    }
+
+    private void applyRemote(CacheInvalidation invalidation) {
+        if (GENERATION_CHANNEL.equals(invalidation.cacheName())) {
+            bump(invalidation.key(), invalidation.kind());
+        }
+    }
+
+    private Generation generation(String scope) {
+        return generations.getOrDefault(scope, Generation.INITIAL);
+    }
+
+    private void bump(String scope, CacheInvalidation.Kind kind) {
+        UnaryOperator<Generation> next = switch (kind) {
+            case CREATED -> Generation::nextCreated;
+            case MODIFIED -> Generation::nextModified;
+            case MODERATED -> Generation::nextModerated;
+            default -> null;
+        };
+        if (next != null) {
+            generations.compute(scope, (k, g) -> next.apply(g == null ? Generation.INITIAL : g));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loadExecutor.shutdownNow();
+    }
+
+    /**
+     * 캐시 키: 범위 + 필터 + 페이지 (총 개수는 page 0)
+     * loader는 최초 miss 요청의 조회 함수로, refresh 때도 재사용되므로 equals/hashCode에서 제외
+     */
+    private static final class Key {
+        private final String scope;
+        private final String filter;
+        private final int pageNum;
+        private final int pageSize;
+        private final Supplier<Object> loader;
+
+        private Key(String scope, String filter, int pageNum, int pageSize, Supplier<Object> loader) {
+            this.scope = scope;
+            this.filter = filter;
+            this.pageNum = pageNum;
+            this.pageSize = pageSize;
+            this.loader = loader;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return pageNum == other.pageNum && pageSize == other.pageSize
+                    && scope.equals(other.scope) && filter.equals(other.filter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, filter, pageNum, pageSize);
+        }
+
+        @Override
+        public String toString() {
+            return scope + ':' + filter + ':' + pageNum + ':' + pageSize;
+        }
+    }
+
+    record Generation(long created, long modified, long moderated) {
+        static final Generation INITIAL = new Generation(0, 0, 0);
+
+        boolean isFresh(Generation current, boolean includesToday) {
+            return moderated == current.moderated
+                    && modified == current.modified
+                    && (!includesToday || created == current.created);
+        }
+
+        Generation nextCreated() {
+            return new Generation(created + 1, modified, moderated);
+        }
+
+        Generation nextModified() {
+            return new Generation(created, modified + 1, moderated);
+        }
+
+        Generation nextModerated() {
+            return new Generation(created, modified, moderated + 1);
+        }
+    }
+
+    private record Stamped(Generation generation, Object value) implements CacheWeigher.Weighted {
+        @Override
+        public int weight() {
+            return CacheWeigher.weightOf(value);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.booktalk_be.common.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * EXPLAIN 기반 행 수 추정
+ *
+ * 설계 근거:
+ * - 관리자 검색 총 개수는 최대 300만 행을 COUNT 하지만 "약 N건"이면 충분한 경우가 많음
+ * - EXPLAIN은 실행 없이 옵티마이저 통계(인덱스 range 추정/히스토그램)만 사용하므로 ms 단위로 끝난다.
+ * - 예상 개수 = rows × filtered(%) (단일 테이블 SELECT 기준, 첫 행만 사용)
+ * - 인덱스 접근(type=range/ref 등)이 아닌 plan은 추정하지 않는다(empty).
+ *   풀 스캔이면 rows는 테이블 전체 크기이고 filtered는 MySQL 고정 휴리스틱(11.11%/33.33%)이라
+ *   조건과 무관한 값이 나오므로, 호출 측이 CAPPED로 대체한다.
+ *   (예: board.reg_time은 단독 선두 인덱스가 없어 기간 조건만으로는 항상 풀 스캔)
+ */
+@Component
+@RequiredArgsConstructor
+public class RowCountEstimator {
+
+    private static final Set<String> INDEX_ACCESS_TYPES = Set.of("const", "eq_ref", "ref", "ref_or_null", "range");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OptionalLong estimate(String selectSql, Object... args) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + selectSql, args);
+        if (plan.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        Map<String, Object> row = plan.get(0);
+        if (!(row.get("type") instanceof String type) || !INDEX_ACCESS_TYPES.contains(type)) {
+            return OptionalLong.empty();
+        }
+        double rows = row.get("rows") instanceof Number n ? n.doubleValue() : 0;
+        double filtered = row.get("filtered") instanceof Number n ? n.doubleValue() : 100;
+        return OptionalLong.of(Math.round(rows * filtered / 100.0));
+    }
+}
@@ -0,0 +1,113 @@
+package com.booktalk_be.common.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ *
+ * 설계 근거:
+ * - 상세 조회마다 엔티티 로딩 + dirty checking UPDATE 시 @Version 증가로 인해
+ *   인기 게시글에서 row lock 경합 및 수정 요청과의 낙관적 락 충돌 발생
+ * - 조회수는 게시글 코드별로 ConcurrentHashMap.merge로 누적하고,
+ *   주기적으로 "UPDATE ... SET views = views + ?" 배치로 반영 (version 컬럼 미변경)
+ * - 종료 시 남은 조회수를 마지막으로 반영
+ * - flush는 코드별 누적값을 remove로 꺼내므로 맵에는 마지막 flush 이후 조회된 게시글만 남는다.
+ *   누적과 꺼내기가 모두 같은 키의 원자적 맵 연산이라, 맵에서 빠진 카운터에 증가분이 더해지는 경우가 없다.
+ *
+ * 반영 대상은 코드 prefix로 판별: BO_(board), BR_(book_review), GAB_(gathering_board), GA_(gathering)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final Map<String, String> UPDATE_SQL_BY_PREFIX = Map.of(
+            "BO_", "UPDATE board SET views = views + ? WHERE code = ?",
+            "BR_", "UPDATE book_review SET views = views + ? WHERE code = ?",
+            "GAB_", "UPDATE gathering_board SET views = views + ? WHERE code = ?",
+            "GA_", "UPDATE gathering SET views = views + ? WHERE gathering_code = ?"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ViewDedupFilter viewDedupFilter;
+
+    private final ConcurrentHashMap<String, Long> pending = new ConcurrentHashMap<>();
+
+    public void increment(String code) {
+        pending.merge(code, 1L, Long::sum);
+    }
+
+    /**
+     * 회원 단위 중복 제거 후 누적 (비회원은 매 조회 집계)
+     */
+    public void increment(String code, Integer memberId) {
+        if (memberId != null && !viewDedupFilter.firstView(code, memberId)) {
+            return;
+        }
+        increment(code);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPending(String code) {
+        return pending.getOrDefault(code, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.flush-delay-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, List<Object[]>> batches = new HashMap<>();
+        for (String code : pending.keySet()) {
+            // 꺼낸 뒤 들어온 조회는 새 항목으로 누적되어 다음 주기에 반영
+            Long removed = pending.remove(code);
+            if (removed == null || removed == 0) {
+                continue;
+            }
+            long delta = removed;
+            String sql = resolveUpdateSql(code);
+            if (sql == null) {
+                log.warn("Unknown post code prefix, dropping {} views for {}", delta, code);
+                continue;
+            }
+            batches.computeIfAbsent(sql, k -> new ArrayList<>()).add(new Object[]{delta, code});
+        }
+
+        batches.forEach((sql, args) -> {
+            try {
+                jdbcTemplate.batchUpdate(sql, args);
+            } catch (Exception e) {
+                // 반영 실패분은 버퍼로 되돌려 다음 주기에 재시도
+                log.error("View count flush failed ({} rows): {}", args.size(), e.getMessage());
+                args.forEach(arg -> pending.merge((String) arg[1], (Long) arg[0], Long::sum));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private String resolveUpdateSql(String code) {
+        for (Map.Entry<String, String> entry : UPDATE_SQL_BY_PREFIX.entrySet()) {
+            if (code.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
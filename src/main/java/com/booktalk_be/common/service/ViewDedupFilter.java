@@ -0,0 +1,113 @@
+package com.booktalk_be.common.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원별 중복 조회 판별용 rotating bloom filter
+ *
+ * 설계 근거:
+ * - (게시글 코드, 회원 ID) 쌍을 그대로 Set에 보관하면 조회가 많을수록 메모리가 계속 증가
+ * - bloom filter 2세대(current, previous)를 유지하고 rotate 주기마다 previous를 버리고 새 세대를 만든다.
+ *   → 한 번 본 게시글은 최소 1주기, 최대 2주기 동안 다시 집계되지 않음
+ * - false positive(처음 본 글을 본 것으로 판단)는 조회수 1 누락일 뿐이므로 허용 (기본 1%)
+ *
+ * 세대당 메모리: expected-insertions=100,000, fpp=1% 기준 약 120KB
+ */
+@Component
+public class ViewDedupFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public ViewDedupFilter(@Value("${app.views.dedup.expected-insertions:100000}") int expectedInsertions,
+                           @Value("${app.views.dedup.fpp:0.01}") double fpp) {
+        // 표준 bloom filter 크기 공식: m = -n ln(p) / (ln 2)^2, k = m/n ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.current = new Generation(bitCount);
+        this.previous = new Generation(bitCount);
+    }
+
+    /**
+     * 해당 회원의 첫 조회이면 true (이후 같은 주기 내 재조회는 false)
+     */
+    public boolean firstView(String code, Integer memberId) {
+        long hash = hash64(code + ':' + memberId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        Generation cur = current;
+        Generation prev = previous;
+        if (cur.mightContain(h1, h2, hashCount) || prev.mightContain(h1, h2, hashCount)) {
+            return false;
+        }
+        cur.put(h1, h2, hashCount);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.dedup.rotate-ms:1800000}",
+            initialDelayString = "${app.views.dedup.rotate-ms:1800000}")
+    public void rotate() {
+        previous = current;
+        current = new Generation(bitCount);
+    }
+
+    /**
+     * FNV-1a 64bit
+     */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        // 하위/상위 32bit를 고르게 섞기 위한 finalizer (murmur3 fmix64)
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Generation {
+        private final AtomicLongArray words;
+        private final int bitCount;
+
+        private Generation(int bitCount) {
+            this.bitCount = bitCount;
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+        }
+
+        private boolean mightContain(int h1, int h2, int hashCount) {
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(h1, h2, i);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(int h1, int h2, int hashCount) {
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(h1, h2, i);
+                long mask = 1L << bit;
+                words.getAndAccumulate(bit >>> 6, mask, (w, m) -> w | m);
+            }
+        }
+
+        // double hashing: g_i(x) = h1 + i * h2
+        private int index(int h1, int h2, int i) {
+            int combined = h1 + i * h2;
+            return (combined & Integer.MAX_VALUE) % bitCount;
+        }
+    }
+}
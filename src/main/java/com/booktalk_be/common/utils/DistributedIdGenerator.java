@@ -1,8 +1,13 @@
 package com.booktalk_be.common.utils;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * Distributed ID Generator using Snowflake-like algorithm.
  * Generates unique IDs across multiple instances without coordination.
@@ -12,6 +17,13 @@ import org.springframework.stereotype.Component;
  * - 41 bits: timestamp (milliseconds since EPOCH) - ~69 years
  * - 10 bits: worker ID (0-1023) - supports up to 1024 instances
  * - 12 bits: sequence (0-4095) - supports 4096 IDs per millisecond per worker
+ *
+ * Lock-free: timestamp and sequence live in one AtomicLong updated by CAS.
+ * When more than 4096 IDs are requested in a millisecond, or the clock moves backwards,
+ * the generator runs slightly ahead of the wall clock instead of blocking.
+ * The lead is capped at app.id.max-drift-ms: beyond that, callers park until the clock
+ * catches up, so a restarted node (whose state is rebuilt from the real clock) cannot
+ * re-issue IDs handed out before the restart unless it restarts within that window.
  */
 @Component
 public class DistributedIdGenerator {
@@ -22,87 +34,127 @@ public class DistributedIdGenerator {
     private static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS); // 1023
     private static final long MAX_SEQUENCE = ~(-1L << SEQUENCE_BITS); // 4095
 
+    /** Default for app.id.max-drift-ms, shared by both constructors. */
+    public static final long DEFAULT_MAX_DRIFT_MS = 5L;
+
     private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
     private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
 
     private final long workerId;
-    private long sequence = 0L;
-    private long lastTimestamp = -1L;
+    private final long maxDriftMs;
+
+    /**
+     * Packed generator state: (timestamp - EPOCH) << SEQUENCE_BITS | sequence.
+     * Because the sequence occupies the low bits, "+1" on an exhausted sequence carries
+     * into the next millisecond, so the state behaves as a single monotonic counter.
+     */
+    private final AtomicLong state = new AtomicLong(-1L);
 
-    public DistributedIdGenerator(@Value("${app.worker-id:0}") long workerId) {
+    public DistributedIdGenerator(long workerId) {
+        this(workerId, DEFAULT_MAX_DRIFT_MS);
+    }
+
+    @Autowired
+    public DistributedIdGenerator(@Value("${app.worker-id:0}") long workerId,
+                                  @Value("${app.id.max-drift-ms:" + DEFAULT_MAX_DRIFT_MS + "}") long maxDriftMs) {
         if (workerId < 0 || workerId > MAX_WORKER_ID) {
             throw new IllegalArgumentException(
                 String.format("Worker ID must be between 0 and %d, got: %d", MAX_WORKER_ID, workerId));
         }
+        if (maxDriftMs < 0) {
+            throw new IllegalArgumentException("Max drift must not be negative, got: " + maxDriftMs);
+        }
         this.workerId = workerId;
+        this.maxDriftMs = maxDriftMs;
     }
 
     /**
      * Generate unique Board ID with "BO_" prefix
      */
-    public synchronized String generateBoardId() {
+    public String generateBoardId() {
         return "BO_" + nextId();
     }
 
     /**
      * Generate unique Reply ID with "REP_" prefix
      */
-    public synchronized String generateReplyId() {
+    public String generateReplyId() {
         return "REP_" + nextId();
     }
 
     /**
      * Generate unique BookReview ID with "BR_" prefix
      */
-    public synchronized String generateBookReviewId() {
+    public String generateBookReviewId() {
         return "BR_" + nextId();
     }
 
     /**
      * Generate unique ID with custom prefix
      */
-    public synchronized String generateId(String prefix) {
+    public String generateId(String prefix) {
         return prefix + nextId();
     }
 
     /**
      * Generate raw unique ID (no prefix)
      */
-    public synchronized long nextId() {
-        long timestamp = currentTimeMillis();
+    public long nextId() {
+        return toId(reserve(1));
+    }
 
-        if (timestamp < lastTimestamp) {
-            // Clock moved backwards - wait until we catch up
-            timestamp = waitNextMillis(lastTimestamp);
+    /**
+     * Generate n consecutive unique IDs with a single CAS (for batch inserts).
+     * n is bounded by one millisecond worth of sequence (4096).
+     */
+    public long[] nextIds(int n) {
+        if (n <= 0 || n > MAX_SEQUENCE + 1) {
+            throw new IllegalArgumentException(
+                String.format("n must be between 1 and %d, got: %d", MAX_SEQUENCE + 1, n));
+        }
+        long last = reserve(n);
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = toId(last - (n - 1) + i);
         }
+        return ids;
+    }
 
-        if (timestamp == lastTimestamp) {
-            // Same millisecond - increment sequence
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            if (sequence == 0) {
-                // Sequence overflow - wait for next millisecond
-                timestamp = waitNextMillis(lastTimestamp);
+    /**
+     * Reserve n state values and return the last one.
+     *
+     * - New millisecond: restart from sequence 0 of the current time
+     * - Same millisecond or clock moved backwards: keep counting from the last issued state
+     *   (sequence overflow borrows the next millisecond instead of spinning)
+     * - Reservation would end more than maxDriftMs ahead of the clock: park until it catches up
+     *
+     * Within the drift cap no thread waits for the wall clock; a failed CAS simply retries with the new state.
+     */
+    private long reserve(int n) {
+        while (true) {
+            long current = state.get();
+            long nowMs = currentTimeMillis() - EPOCH;
+            long first = Math.max(current + 1, nowMs << SEQUENCE_BITS);
+            long last = first + n - 1;
+            long lead = (last >>> SEQUENCE_BITS) - nowMs;
+            if (lead > maxDriftMs) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(lead - maxDriftMs));
+                continue;
+            }
+            if (state.compareAndSet(current, last)) {
+                return last;
             }
-        } else {
-            // New millisecond - reset sequence
-            sequence = 0L;
         }
+    }
 
-        lastTimestamp = timestamp;
-
-        return ((timestamp - EPOCH) << TIMESTAMP_SHIFT)
+    private long toId(long packed) {
+        long timestamp = packed >>> SEQUENCE_BITS;
+        long sequence = packed & MAX_SEQUENCE;
+        return (timestamp << TIMESTAMP_SHIFT)
                 | (workerId << WORKER_ID_SHIFT)
                 | sequence;
     }
 
-    private long waitNextMillis(long lastTimestamp) {
-        long timestamp = currentTimeMillis();
-        while (timestamp <= lastTimestamp) {
-            timestamp = currentTimeMillis();
-        }
-        return timestamp;
-    }
-
     private long currentTimeMillis() {
         return System.currentTimeMillis();
     }
@@ -73,7 +73,7 @@ public class AuthController {
     public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) {
         try {
             Integer userId = jwtProvider.getUserKeyFromExpiredToken(jwtProvider.resolveToken(request));
-            if(refreshTokenService.validateExistMember(userId)) {
+            if(userId != null) {
                 refreshTokenService.deleteRefreshToken(userId);
             }
             ResponseCookie rtCookie = ResponseCookie.from("refresh_token", null)
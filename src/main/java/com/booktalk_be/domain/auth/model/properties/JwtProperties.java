@@ -14,4 +14,6 @@ public class JwtProperties {
     private String secretRefreshToken;
     private int accessExpiration;
     private int refreshExpiration;
+    // 검증 완료 토큰 캐시 최대 건수 (0이면 캐시 미사용)
+    private int verifiedCacheSize = 10_000;
 }
@@ -4,6 +4,9 @@ import com.booktalk_be.domain.auth.model.entity.Refresh_Token;
 import com.booktalk_be.domain.auth.model.entity.Refresh_Token_id;
 import com.booktalk_be.domain.member.model.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RefreshTokenRepository extends JpaRepository<Refresh_Token, Refresh_Token_id> {
     boolean existsByMember(Member member);
@@ -11,4 +14,17 @@ public interface RefreshTokenRepository extends JpaRepository<Refresh_Token, Ref
     Refresh_Token findByMember(Member member);
 
     void deleteByMember(Member member);
+
+    /**
+     * 회원의 리프레시 토큰을 새 값으로 교체 (없으면 생성)
+     * uk_refresh_token_member(member_id) 기준 upsert → 조회/삭제/삽입을 한 문장으로 처리
+     */
+    @Modifying
+    @Query(value = "INSERT INTO refresh_token (member_id, refresh_token) VALUES (:memberId, :token) " +
+            "ON DUPLICATE KEY UPDATE refresh_token = VALUES(refresh_token)", nativeQuery = true)
+    int upsert(@Param("memberId") int memberId, @Param("token") String token);
+
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE member_id = :memberId", nativeQuery = true)
+    int deleteByMemberId(@Param("memberId") int memberId);
 }
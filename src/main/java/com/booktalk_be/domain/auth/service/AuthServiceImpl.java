@@ -2,8 +2,6 @@ package com.booktalk_be.domain.auth.service;
 
 import com.booktalk_be.domain.auth.command.LoginDTO;
 import com.booktalk_be.domain.auth.model.entity.AuthorityType;
-import com.booktalk_be.domain.auth.model.entity.Refresh_Token;
-import com.booktalk_be.domain.auth.model.repository.RefreshTokenRepository;
 import com.booktalk_be.domain.member.model.entity.Member;
 import com.booktalk_be.domain.member.model.repository.MemberRepository;
 import com.booktalk_be.springconfig.auth.jwt.JwtProvider;
@@ -27,7 +25,6 @@ public class AuthServiceImpl implements AuthService {
     private final JwtProvider jwtProvider;
     private final MemberRepository memberRepository;
     private final RefreshTokenService refreshTokenService;
-    private final RefreshTokenRepository refreshTokenRepository;
 
     @Override
     @Transactional
@@ -42,14 +39,7 @@ public class AuthServiceImpl implements AuthService {
         int userKey = userDetails.getMember().getMemberId();
         AuthorityType userRole = userDetails.getMember().getAuthority();
         String accessToken = jwtProvider.generateAccessToken(userId, userKey, userRole);
-        String refreshToken;
-
-        if(refreshTokenService.validateExistMember(userKey)) {
-            refreshTokenService.deleteRefreshToken(userKey);
-            refreshTokenRepository.flush();
-        }
-        Refresh_Token newRefreshToken = refreshTokenService.saveRefreshToken(userKey);
-        refreshToken = newRefreshToken.getToken();
+        String refreshToken = refreshTokenService.rotateRefreshToken(userKey, userId);
 
         Map<String, String> tokenMap = new HashMap<>();
         tokenMap.put("accessToken", accessToken);
@@ -61,18 +51,13 @@ public class AuthServiceImpl implements AuthService {
     @Transactional
     public Map<String, String> reissueToken(String refreshToken) {
 
-        jwtProvider.validateToken(refreshToken);
-
+        // 서명/만료 검증과 userKey 추출을 한 번의 파싱으로 처리
         Integer userId = jwtProvider.getUserIdFromToken(refreshToken);
 
         Member member = memberRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다."));
 
-        if(refreshTokenService.validateExistMember(userId)){
-            refreshTokenService.deleteRefreshToken(userId);
-            refreshTokenRepository.flush();
-        }
-        String newRefreshToken = refreshTokenService.saveRefreshToken(userId).getToken();
+        String newRefreshToken = refreshTokenService.rotateRefreshToken(userId, member.getEmail());
 
         String newAccessToken = jwtProvider.generateAccessToken(
                 member.getEmail(),
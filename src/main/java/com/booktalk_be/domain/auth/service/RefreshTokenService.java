@@ -10,4 +10,6 @@ public interface RefreshTokenService {
     Refresh_Token getRefreshTokenByMember(int memberId);
 
     void deleteRefreshToken(int memberId);
+
+    String rotateRefreshToken(int memberId, String email);
 }
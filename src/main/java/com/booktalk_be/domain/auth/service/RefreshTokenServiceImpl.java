@@ -46,7 +46,17 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
     @Override
     public void deleteRefreshToken(int memberId) {
-        Member member = memberRepository.findById(memberId).orElseThrow(EntityNotFoundException::new);
-        refreshTokenRepository.deleteByMember(member);
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+
+    /**
+     * 새 리프레시 토큰 발급 + 저장 (기존 토큰은 같은 문장에서 교체)
+     * 호출자가 이미 회원 정보를 갖고 있으므로 member 조회 없이 처리
+     */
+    @Override
+    public String rotateRefreshToken(int memberId, String email) {
+        String refreshToken = jwtProvider.generateRefreshToken(email, memberId);
+        refreshTokenRepository.upsert(memberId, refreshToken);
+        return refreshToken;
     }
 }
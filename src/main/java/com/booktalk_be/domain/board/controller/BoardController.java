@@ -1,6 +1,7 @@
 package com.booktalk_be.domain.board.controller;
 
 import com.booktalk_be.common.command.PostSearchCondCommand;
+import com.booktalk_be.common.responseDto.CursorResponseDto;
 import com.booktalk_be.common.responseDto.PageResponseDto;
 import com.booktalk_be.common.utils.ResponseDto;
 import com.booktalk_be.domain.board.command.CreateBoardCommand;
@@ -9,10 +10,13 @@ import com.booktalk_be.domain.board.command.UpdateBoardCommand;
 import com.booktalk_be.domain.board.responseDto.BoardDetailResponse;
 import com.booktalk_be.domain.board.responseDto.BoardResponse;
 import com.booktalk_be.domain.board.service.BoardService;
-import com.booktalk_be.domain.member.model.entity.Member;
+import com.booktalk_be.domain.member.service.MemberService;
+import com.booktalk_be.springconfig.auth.user.AuthMember;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class BoardController {
 
     private final BoardService boardService;
+    private final MemberService memberService;
 
     @GetMapping("/list")
     @Tag(name = "Community Board API")
@@ -54,6 +59,33 @@ public class BoardController {
                 .build());
     }
 
+    @GetMapping("/list/cursor")
+    @Tag(name = "Community Board API")
+    @Operation(summary = "커뮤니티 게시글 목록 커서 조회", description = "마지막으로 조회한 게시글 코드(cursor) 이후의 게시글 목록을 조회합니다. (무한 스크롤용, COUNT 미수행)")
+    public ResponseEntity<ResponseDto> getListByCursor(@RequestParam(value = "categoryId", required = true) Integer categoryId,
+                                                       @RequestParam(value = "cursor", required = false) String cursor,
+                                                       @RequestParam(value = "pageSize", required = false, defaultValue = "10") @Min(1) @Max(100) Integer pageSize) {
+        CursorResponseDto<BoardResponse> page = boardService.getBoardsByCursor(categoryId, cursor, pageSize);
+        return ResponseEntity.ok(ResponseDto.builder()
+                .code(200)
+                .data(page)
+                .build());
+    }
+
+    @PostMapping("/list/search/cursor")
+    @Tag(name = "Community Board API")
+    @Operation(summary = "커뮤니티 게시글 목록 커서 검색", description = "검색 조건에 맞는 게시글 중 cursor 이후의 목록을 조회합니다. (무한 스크롤용, COUNT 미수행)")
+    public ResponseEntity<ResponseDto> searchListByCursor(@RequestParam(value = "categoryId", required = true) Integer categoryId,
+                                                          @RequestParam(value = "cursor", required = false) String cursor,
+                                                          @RequestParam(value = "pageSize", required = false, defaultValue = "10") @Min(1) @Max(100) Integer pageSize,
+                                                          @RequestBody @Valid PostSearchCondCommand cmd) {
+        CursorResponseDto<BoardResponse> page = boardService.searchBoardsByCursor(categoryId, cursor, pageSize, cmd);
+        return ResponseEntity.ok(ResponseDto.builder()
+                .code(200)
+                .data(page)
+                .build());
+    }
+
     @GetMapping("/detail/{boardCode}")
     @Tag(name = "Community Board API")
     @Operation(summary = "커뮤니티 게시글 상세 조회", description = "게시글 상세 정보를 조회합니다.")
@@ -61,8 +93,8 @@ public class BoardController {
             @PathVariable String boardCode,
             Authentication authentication) {
         Integer memberId = null;
-        if (authentication != null && authentication.getPrincipal() instanceof Member) {
-            memberId = ((Member) authentication.getPrincipal()).getMemberId();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthMember) {
+            memberId = ((AuthMember) authentication.getPrincipal()).getMemberId();
         }
         BoardDetailResponse res = boardService.getBoardDetail(boardCode, memberId);
         if(res.getPost().getDelYn()) {
@@ -112,8 +144,8 @@ public class BoardController {
             @RequestBody @Valid CreateBoardCommand cmd,
             Authentication authentication
     ) {
-        Member member =  (Member) authentication.getPrincipal();
-        boardService.createBoard(cmd, member);
+        AuthMember member = (AuthMember) authentication.getPrincipal();
+        boardService.createBoard(cmd, memberService.getMemberReference(member.getMemberId()));
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
                 .build());
@@ -124,7 +156,7 @@ public class BoardController {
     @Operation(summary = "커뮤니티 게시글 수정", description = "게시글 상세 정보를 수정합니다.")
     public ResponseEntity<ResponseDto> modify(@RequestBody @Valid UpdateBoardCommand cmd,
                                                Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         boardService.modifyBoard(cmd, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -156,7 +188,7 @@ public class BoardController {
     @Operation(summary = "커뮤니티 게시글 삭제", description = "게시글을 삭제합니다.")
     public ResponseEntity<ResponseDto> delete(@PathVariable String boardCode,
                                                Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         boardService.deleteBoard(boardCode, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -184,7 +216,7 @@ public class BoardController {
             @RequestBody @Valid PostSearchCondCommand cmd,
             Authentication authentication
     ) {
-        Member member =  (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<BoardResponse> page =  boardService.searchAllBoardsForPaging(cmd, pageNum, pageSize
         );
         return ResponseEntity.ok(ResponseDto.builder()
@@ -202,7 +234,7 @@ public class BoardController {
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             Authentication authentication
     ) {
-        Member member =  (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<BoardResponse> page =  boardService.getAllBoardsForPagingByMe(pageNum, pageSize, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -218,7 +250,7 @@ public class BoardController {
             @RequestBody @Valid PostSearchCondCommand cmd,
             Authentication authentication
     ) {
-        Member member =  (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<BoardResponse> page =  boardService.searchAllBoardsForPagingByMe(cmd, pageNum, pageSize, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -2,6 +2,16 @@ package com.booktalk_be.domain.board.model.repository;
 
 import com.booktalk_be.domain.board.model.entity.Board;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BoardRepository extends JpaRepository<Board, String>, BoardRepositoryCustom {
+
+    /**
+     * 좋아요 수 원자적 증감 (엔티티 로딩/@Version 증가 없이 단일 UPDATE)
+     */
+    @Modifying
+    @Query(value = "UPDATE board SET like_cnt = GREATEST(COALESCE(like_cnt, 0) + :delta, 0) WHERE code = :code", nativeQuery = true)
+    int addLikeCount(@Param("code") String code, @Param("delta") int delta);
 }
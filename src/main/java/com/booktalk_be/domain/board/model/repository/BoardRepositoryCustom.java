@@ -6,12 +6,25 @@ import com.booktalk_be.domain.board.responseDto.CommuDetailResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.OptionalLong;
+
 public interface BoardRepositoryCustom {
 
     Page<BoardResponse> findBoardsForPaging(Integer categoryId, Pageable pageable);
     Page<BoardResponse> searchBoardsForPaging(Integer categoryId, Pageable pageable, PostSearchCondCommand cmd);
-    CommuDetailResponse getBoardDetailBy(String boardCode);
+    List<BoardResponse> findBoardsByCursor(Integer categoryId, String cursor, int limit);
+    List<BoardResponse> searchBoardsByCursor(Integer categoryId, String cursor, int limit, PostSearchCondCommand cmd);
+    CommuDetailResponse getBoardDetailBy(String boardCode, Integer memberId);
     Page<BoardResponse> getAllBoardsForPaging(Pageable pageable);
+    // 관리자 목록 캐시가 페이지 내용과 총 개수를 따로 캐시하기 위한 분리 조회
+    List<BoardResponse> findAllBoardsContent(Pageable pageable);
+    long countAllBoards();
+    List<BoardResponse> searchAllBoardsContent(PostSearchCondCommand cmd, Pageable pageable);
+    long countSearchAllBoards(PostSearchCondCommand cmd);
+    // 총 개수 근사 조회 (CountStrategy.CAPPED / ESTIMATED)
+    long countSearchAllBoardsUpTo(PostSearchCondCommand cmd, long limit);
+    OptionalLong estimateSearchAllBoards(PostSearchCondCommand cmd);
     Page<BoardResponse> getAllBoardsForPagingByMe(Pageable pageable, int memberId);
     Page<BoardResponse> searchAllBoardsForPagingByMe(PostSearchCondCommand cmd, Pageable pageable, int memberId);
     Page<BoardResponse> searchAllBoardsForPaging(PostSearchCondCommand cmd, Pageable pageable);
@@ -1,11 +1,14 @@
 package com.booktalk_be.domain.board.model.repository.querydsl;
 
 import com.booktalk_be.common.command.PostSearchCondCommand;
+import com.booktalk_be.common.service.RowCountEstimator;
 import com.booktalk_be.domain.board.model.repository.BoardRepositoryCustom;
 import com.booktalk_be.common.utils.Querydsl4RepositorySupport;
 import com.booktalk_be.domain.board.responseDto.BoardResponse;
 import com.booktalk_be.domain.board.responseDto.CommuDetailResponse;
+import com.booktalk_be.domain.category.model.entity.PostType;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
@@ -19,16 +22,23 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static com.booktalk_be.domain.board.model.entity.QBoard.board;
 import static com.booktalk_be.domain.category.model.entity.QCategory.category;
+import static com.booktalk_be.domain.category.model.entity.QCategoryPostStats.categoryPostStats;
+import static com.booktalk_be.domain.likes.model.repository.querydsl.LikesExpressions.likedByMember;
 
 public class BoardRepositoryCustomImpl extends Querydsl4RepositorySupport implements BoardRepositoryCustom {
 
-    protected BoardRepositoryCustomImpl(JPAQueryFactory queryFactory) {
+    private final RowCountEstimator rowCountEstimator;
+
+    protected BoardRepositoryCustomImpl(JPAQueryFactory queryFactory, RowCountEstimator rowCountEstimator) {
         super(queryFactory);
+        this.rowCountEstimator = rowCountEstimator;
     }
 
     @Override
@@ -45,13 +55,19 @@ public class BoardRepositoryCustomImpl extends Querydsl4RepositorySupport implem
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+        // category_post_stats 집계값 사용, 집계 행이 없는 경우에만 COUNT 수행
         Long total = Optional.ofNullable(
-                select(Wildcard.count)
-                        .from(board)
-                        .leftJoin(board.member)
-                        .where(board.categoryId.eq(categoryId).and(board.delYn.eq(false)))
+                select(categoryPostStats.activeCnt)
+                        .from(categoryPostStats)
+                        .where(categoryPostStats.categoryId.eq(categoryId)
+                                .and(categoryPostStats.postType.eq(PostType.BOARD)))
                         .fetchOne())
-                .orElse(0L);
+                .orElseGet(() -> Optional.ofNullable(
+                        select(Wildcard.count)
+                                .from(board)
+                                .where(board.categoryId.eq(categoryId).and(board.delYn.eq(false)))
+                                .fetchOne())
+                        .orElse(0L));
         return new PageImpl<>(content, pageable, total);
     }
 
@@ -95,7 +111,45 @@ public class BoardRepositoryCustomImpl extends Querydsl4RepositorySupport implem
     }
 
     @Override
-    public CommuDetailResponse getBoardDetailBy(String boardCode) {
+    public List<BoardResponse> findBoardsByCursor(Integer categoryId, String cursor, int limit) {
+        return select(Projections.fields(BoardResponse.class,
+                board.code.as("boardCode"),
+                board.title,
+                board.member.name.as("author"),
+                Expressions.stringTemplate("DATE_FORMAT({0}, '%Y-%m-%d')", board.regTime).as("date"),
+                board.views))
+                .from(board).leftJoin(board.member)
+                .where(board.categoryId.eq(categoryId).and(board.delYn.eq(false)))
+                .where(cursorFilter(cursor))
+                .orderBy(board.code.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<BoardResponse> searchBoardsByCursor(Integer categoryId, String cursor, int limit, PostSearchCondCommand cmd) {
+        BooleanBuilder searchCondition = new BooleanBuilder()
+                .and(keywordFilter(cmd.getType(), cmd.getKeyword()))
+                .and(dateFilter(cmd.getStartDate(), cmd.getEndDate()));
+
+        return select(Projections.fields(BoardResponse.class,
+                board.code.as("boardCode"),
+                board.title,
+                board.member.name.as("author"),
+                Expressions.stringTemplate("DATE_FORMAT({0}, '%Y-%m-%d')", board.regTime).as("date"),
+                board.views))
+                .from(board).leftJoin(board.member)
+                .where(board.categoryId.eq(categoryId))
+                .where(board.delYn.eq(false))
+                .where(cursorFilter(cursor))
+                .where(searchCondition)
+                .orderBy(board.code.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public CommuDetailResponse getBoardDetailBy(String boardCode, Integer memberId) {
         return select(Projections.fields(CommuDetailResponse.class,
                 board.code.as("boardCode"),
                 board.member.memberId.as("memberId"),
@@ -105,9 +159,8 @@ public class BoardRepositoryCustomImpl extends Querydsl4RepositorySupport implem
                 board.views.as("views"),
                 board.likesCnt.as("likesCnt"),
                 Expressions.stringTemplate("DATE_FORMAT({0}, '%Y-%m-%d')", board.regTime).as("regDate"),
-                Expressions.stringTemplate("DATE_FORMAT({0}, '%Y-%m-%d')", board.updateTime).as("regDate"),
-                //TODO 좋아요 기능 추가 후 활성화
-//                Expressions.constant(false).as("isLiked"),
+                Expressions.stringTemplate("DATE_FORMAT({0}, '%Y-%m-%d')", board.updateTime).as("updateDate"),
+                ExpressionUtils.as(likedByMember(board.code, memberId), "isLiked"),
                 board.notificationYn.as("notificationYn"),
                 board.delYn.as("delYn"),
                 board.delReason.as("delReason")))
@@ -118,7 +171,12 @@ public class BoardRepositoryCustomImpl extends Querydsl4RepositorySupport implem
 
     @Override
     public Page<BoardResponse> getAllBoardsForPaging(Pageable pageable) {
-        List<BoardResponse> content = select(Projections.fields(BoardResponse.class,
+        return new PageImpl<>(findAllBoardsContent(pageable), pageable, countAllBoards());
+    }
+
+    @Override
+    public List<BoardResponse> findAllBoardsContent(Pageable pageable) {
+        return select(Projections.fields(BoardResponse.class,
                 board.code.as("boardCode"),
                 board.title,
                 category.value.as("category"),
@@ -134,18 +192,30 @@ public class BoardRepositoryCustomImpl extends Querydsl4RepositorySupport implem
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
-        Long total = Optional.ofNullable(
+    }
+
+    @Override
+    public long countAllBoards() {
+        return Optional.ofNullable(
+                        select(categoryPostStats.totalCnt.sum())
+                                .from(categoryPostStats)
+                                .where(categoryPostStats.postType.eq(PostType.BOARD))
+                                .fetchOne())
+                .orElseGet(() -> Optional.ofNullable(
                         select(Wildcard.count)
                                 .from(board)
                                 .fetchOne())
-                .orElse(0L);
-        return new PageImpl<>(content, pageable, total);
+                        .orElse(0L));
     }
 
     @Override
     public Page<BoardResponse> searchAllBoardsForPaging(PostSearchCondCommand cmd, Pageable pageable) {
-        JPAQueryBase<BoardResponse, JPAQuery<BoardResponse>> baseQuery =
-                select(Projections.fields(BoardResponse.class,
+        return new PageImpl<>(searchAllBoardsContent(cmd, pageable), pageable, countSearchAllBoards(cmd));
+    }
+
+    @Override
+    public List<BoardResponse> searchAllBoardsContent(PostSearchCondCommand cmd, Pageable pageable) {
+        return select(Projections.fields(BoardResponse.class,
                 board.code.as("boardCode"),
                 board.title,
                 category.value.as("category"),
@@ -156,32 +226,64 @@ public class BoardRepositoryCustomImpl extends Querydsl4RepositorySupport implem
                 board.delReason.as("deleteReason")))
                 .from(board)
                 .leftJoin(board.member)
-                .leftJoin(category).on(board.categoryId.eq(category.categoryId));
-
-        JPAQuery<Long> pageQuery = select(Wildcard.count).from(board);
-        if (cmd.getType() == PostSearchCondCommand.KeywordType.AUTHOR) {
-            pageQuery.leftJoin(board.member);
-        }
-
-        BooleanBuilder searchCondition = new BooleanBuilder()
-                .and(keywordFilter(cmd.getType(), cmd.getKeyword()))
-                .and(dateFilter(cmd.getStartDate(), cmd.getEndDate()));
-
-        List<BoardResponse> content =
-                baseQuery
-                .where(searchCondition)
+                .leftJoin(category).on(board.categoryId.eq(category.categoryId))
+                .where(adminSearchCondition(cmd))
                 .orderBy(board.code.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+    }
 
-        Long total = Optional.ofNullable(
-                pageQuery
-                .where(searchCondition)
+    @Override
+    public long countSearchAllBoards(PostSearchCondCommand cmd) {
+        JPAQuery<Long> countQuery = select(Wildcard.count).from(board);
+        if (cmd.getType() == PostSearchCondCommand.KeywordType.AUTHOR) {
+            countQuery.leftJoin(board.member);
+        }
+        return Optional.ofNullable(
+                countQuery
+                .where(adminSearchCondition(cmd))
                 .fetchOne()
         ).orElse(0L);
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    @Override
+    public long countSearchAllBoardsUpTo(PostSearchCondCommand cmd, long limit) {
+        // COUNT 대신 limit건까지만 PK를 읽고 멈춤 (JPQL은 FROM 서브쿼리를 지원하지 않아 건수는 애플리케이션에서 셈)
+        JPAQuery<String> query = select(board.code).from(board);
+        if (cmd.getType() == PostSearchCondCommand.KeywordType.AUTHOR) {
+            query.leftJoin(board.member);
+        }
+        return query
+                .where(adminSearchCondition(cmd))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    @Override
+    public OptionalLong estimateSearchAllBoards(PostSearchCondCommand cmd) {
+        // 키워드 조건(FULLTEXT/LIKE/카테고리)은 EXPLAIN rows가 실제와 무관하므로 추정하지 않음
+        if (cmd.getKeyword() != null && !cmd.getKeyword().isEmpty()) {
+            return OptionalLong.empty();
+        }
+        StringBuilder sql = new StringBuilder("SELECT 1 FROM board WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (cmd.getStartDate() != null) {
+            sql.append(" AND reg_time >= ?");
+            args.add(cmd.getStartDate().atStartOfDay());
+        }
+        if (cmd.getEndDate() != null) {
+            sql.append(" AND reg_time <= ?");
+            args.add(cmd.getEndDate().atTime(LocalTime.MAX));
+        }
+        return rowCountEstimator.estimate(sql.toString(), args.toArray());
+    }
+
+    private BooleanBuilder adminSearchCondition(PostSearchCondCommand cmd) {
+        return new BooleanBuilder()
+                .and(keywordFilter(cmd.getType(), cmd.getKeyword()))
+                .and(dateFilter(cmd.getStartDate(), cmd.getEndDate()));
     }
 
     @Override
@@ -304,6 +406,14 @@ public class BoardRepositoryCustomImpl extends Querydsl4RepositorySupport implem
         };
     }
 
+    // seek predicate: 마지막으로 조회한 code 이후부터 PK 범위 스캔 (페이지 깊이와 무관)
+    private BooleanExpression cursorFilter(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        return board.code.lt(cursor);
+    }
+
     private BooleanExpression dateFilter(LocalDate startDate, LocalDate endDate) {
         if (startDate != null && endDate != null) {
             return board.regTime.between(
@@ -2,6 +2,7 @@ package com.booktalk_be.domain.board.service;
 
 import com.booktalk_be.common.command.PostSearchCondCommand;
 import com.booktalk_be.common.command.RestrictCommand;
+import com.booktalk_be.common.responseDto.CursorResponseDto;
 import com.booktalk_be.common.responseDto.PageResponseDto;
 import com.booktalk_be.domain.board.command.CreateBoardCommand;
 import com.booktalk_be.domain.board.command.UpdateBoardCommand;
@@ -18,6 +19,8 @@ public interface BoardService {
     public void deleteBoard(String boardCode, int memberId);
     public PageResponseDto<BoardResponse> getBoardsForPaging(Integer categoryId, Integer pageNum, Integer pageSize);
     public PageResponseDto<BoardResponse> searchBoardsForPaging(Integer categoryId, Integer pageNum, Integer pageSize, PostSearchCondCommand cnd);
+    public CursorResponseDto<BoardResponse> getBoardsByCursor(Integer categoryId, String cursor, Integer pageSize);
+    public CursorResponseDto<BoardResponse> searchBoardsByCursor(Integer categoryId, String cursor, Integer pageSize, PostSearchCondCommand cmd);
     public BoardDetailResponse getBoardDetail(String boardCode, Integer memberId);
     public PageResponseDto<BoardResponse> getAllBoardsForPaging(Integer pageNum, Integer pageSize);
     PageResponseDto<BoardResponse> getAllBoardsForPagingByMe(Integer pageNum, Integer pageSize, int memberId);
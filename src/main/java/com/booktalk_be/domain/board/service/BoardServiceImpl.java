@@ -2,7 +2,11 @@ package com.booktalk_be.domain.board.service;
 
 import com.booktalk_be.common.command.PostSearchCondCommand;
 import com.booktalk_be.common.command.RestrictCommand;
+import com.booktalk_be.common.responseDto.CursorResponseDto;
 import com.booktalk_be.common.responseDto.PageResponseDto;
+import com.booktalk_be.common.responseDto.TotalCount;
+import com.booktalk_be.common.service.AdminListCache;
+import com.booktalk_be.common.service.ViewCountBuffer;
 import com.booktalk_be.domain.board.command.CreateBoardCommand;
 import com.booktalk_be.domain.board.command.UpdateBoardCommand;
 import com.booktalk_be.domain.board.model.entity.Board;
@@ -10,15 +14,14 @@ import com.booktalk_be.domain.board.model.repository.BoardRepository;
 import com.booktalk_be.domain.board.responseDto.BoardDetailResponse;
 import com.booktalk_be.domain.board.responseDto.BoardResponse;
 import com.booktalk_be.domain.board.responseDto.CommuDetailResponse;
-import com.booktalk_be.domain.likes.model.repository.LikesRepository;
+import com.booktalk_be.domain.category.model.entity.PostType;
+import com.booktalk_be.domain.category.service.CategoryPostStatsService;
 import com.booktalk_be.domain.member.model.entity.Member;
 import com.booktalk_be.domain.reply.responseDto.ReplyResponse;
 import com.booktalk_be.domain.reply.service.ReplyService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -32,13 +35,16 @@ import java.util.List;
 @Transactional
 @RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
+    private static final String ADMIN_CACHE = "boardAdminList";
+    private static final String ADMIN_SCOPE = "board";
 
     private final BoardRepository boardRepository;
     private final ReplyService replyService;
-    private final LikesRepository likesRepository;
+    private final CategoryPostStatsService categoryPostStatsService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final AdminListCache adminListCache;
 
     @Override
-    @CacheEvict(value = "boardAdminList", allEntries = true)
     public void createBoard(CreateBoardCommand cmd, Member member) {
         Board board = Board.builder()
                 .categoryId(cmd.getCategoryId())
@@ -49,6 +55,8 @@ public class BoardServiceImpl implements BoardService {
                 .build();
 
         boardRepository.save(board);
+        categoryPostStatsService.onCreated(board.getCategoryId(), PostType.BOARD);
+        adminListCache.onCreated(ADMIN_SCOPE);
     }
 
     @Override
@@ -59,33 +67,43 @@ public class BoardServiceImpl implements BoardService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "수정 권한이 없습니다.");
         }
         board.modify(cmd);
+        adminListCache.onModified(ADMIN_SCOPE);
     }
 
     @Override
-    @CacheEvict(value = "boardAdminList", allEntries = true)
     public void restrictBoard(RestrictCommand cmd) {
         Board board = boardRepository.findById(cmd.getTargetCode())
                 .orElseThrow(EntityNotFoundException::new);
+        if (!board.getDelYn()) {
+            categoryPostStatsService.onDeactivated(board.getCategoryId(), PostType.BOARD);
+        }
         board.delete(cmd.getDelReason());
+        adminListCache.onModerated(ADMIN_SCOPE);
     }
 
     @Override
-    @CacheEvict(value = "boardAdminList", allEntries = true)
     public void recoverBoard(String boardCode) {
         Board board = boardRepository.findById(boardCode)
                 .orElseThrow(EntityNotFoundException::new);
+        if (board.getDelYn()) {
+            categoryPostStatsService.onActivated(board.getCategoryId(), PostType.BOARD);
+        }
         board.recover();
+        adminListCache.onModerated(ADMIN_SCOPE);
     }
 
     @Override
-    @CacheEvict(value = "boardAdminList", allEntries = true)
     public void deleteBoard(String boardCode, int memberId) {
         Board board = boardRepository.findById(boardCode)
                 .orElseThrow(EntityNotFoundException::new);
         if (board.getMember().getMemberId() != memberId) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "삭제 권한이 없습니다.");
         }
+        if (!board.getDelYn()) {
+            categoryPostStatsService.onDeactivated(board.getCategoryId(), PostType.BOARD);
+        }
         board.delete();
+        adminListCache.onModified(ADMIN_SCOPE);
     }
 
     @Override
@@ -111,37 +129,46 @@ public class BoardServiceImpl implements BoardService {
     }
 
     @Override
-    public BoardDetailResponse getBoardDetail(String boardCode, Integer memberId) {
-        // Increment view count
-        Board board = boardRepository.findById(boardCode)
-                .orElseThrow(EntityNotFoundException::new);
-        board.incrementViews();
+    public CursorResponseDto<BoardResponse> getBoardsByCursor(Integer categoryId, String cursor, Integer pageSize) {
+        // pageSize + 1건 조회로 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+        List<BoardResponse> rows = boardRepository.findBoardsByCursor(categoryId, cursor, pageSize + 1);
+        return toCursorResponse(rows, pageSize);
+    }
 
-        CommuDetailResponse detail = boardRepository.getBoardDetailBy(boardCode);
-        List<ReplyResponse> replies = replyService.getRepliesByPostCode(detail.getBoardCode(), memberId);
+    @Override
+    public CursorResponseDto<BoardResponse> searchBoardsByCursor(
+            Integer categoryId, String cursor, Integer pageSize, PostSearchCondCommand cmd) {
+        List<BoardResponse> rows = boardRepository.searchBoardsByCursor(categoryId, cursor, pageSize + 1, cmd);
+        return toCursorResponse(rows, pageSize);
+    }
+
+    @Override
+    public BoardDetailResponse getBoardDetail(String boardCode, Integer memberId) {
+        // 1. 게시글 + 좋아요 여부 (projection 1회)
+        CommuDetailResponse detail = boardRepository.getBoardDetailBy(boardCode, memberId);
+        if (detail == null) throw new EntityNotFoundException();
 
-        // Check if user liked this post
-        Boolean isLikedByMe = memberId != null && likesRepository.existsByCodeAndMemberId(boardCode, memberId);
+        // 조회수는 버퍼에 누적 후 배치 반영 (엔티티 로딩/version 증가 없음)
+        viewCountBuffer.increment(boardCode);
+        int views = detail.getViews() == null ? 0 : detail.getViews();
+        detail.setViews(views + (int) viewCountBuffer.getPending(boardCode));
 
-        // post 객체에 isLiked 설정
-        detail.setIsLiked(isLikedByMe);
+        // 2. 댓글 + 작성자 + 좋아요 여부 (projection 1회, 댓글 수와 무관)
+        List<ReplyResponse> replies = replyService.getReplyTreeByPostCode(boardCode, memberId);
 
         return BoardDetailResponse.builder()
                 .post(detail)
                 .replies(replies)
-                .isLiked(isLikedByMe)
+                .isLiked(Boolean.TRUE.equals(detail.getIsLiked()))
                 .build();
     }
 
     @Override
-    @Cacheable(value = "boardAdminList", key = "'all:' + #pageNum + ':' + #pageSize")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public PageResponseDto<BoardResponse> getAllBoardsForPaging(Integer pageNum, Integer pageSize) {
-        Pageable pageable = PageRequest.of(pageNum-1, pageSize);
-        Page<BoardResponse> page =  boardRepository.getAllBoardsForPaging(pageable);
-        return PageResponseDto.<BoardResponse>builder()
-                .content(page.getContent())
-                .totalPages(page.getTotalPages())
-                .build();
+        return adminListCache.getPage(ADMIN_CACHE, ADMIN_SCOPE, "all", null, pageNum, pageSize,
+                boardRepository::findAllBoardsContent,
+                () -> TotalCount.exact(boardRepository.countAllBoards()));
     }
 
     @Override
@@ -165,14 +192,17 @@ public class BoardServiceImpl implements BoardService {
     }
 
     @Override
-    @Cacheable(value = "boardAdminList", key = "'search:' + #pageNum + ':' + #pageSize + ':' + #cmd.keyword + ':' + #cmd.type + ':' + #cmd.startDate + ':' + #cmd.endDate")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public PageResponseDto<BoardResponse> searchAllBoardsForPaging(PostSearchCondCommand cmd, Integer pageNum, Integer pageSize) {
-        Pageable pageable = PageRequest.of(pageNum-1, pageSize);
-        Page<BoardResponse> page =  boardRepository.searchAllBoardsForPaging(cmd, pageable);
-        return PageResponseDto.<BoardResponse>builder()
-                .content(page.getContent())
-                .totalPages(page.getTotalPages())
-                .build();
+        String filter = "search:" + cmd.getKeyword() + ':' + cmd.getType()
+                + ':' + cmd.getStartDate() + ':' + cmd.getEndDate()
+                + ':' + cmd.getCountStrategy() + ':' + cmd.getCountCap();
+        return adminListCache.getPage(ADMIN_CACHE, ADMIN_SCOPE, filter, cmd.getEndDate(), pageNum, pageSize,
+                pageable -> boardRepository.searchAllBoardsContent(cmd, pageable),
+                () -> TotalCount.resolve(cmd.getCountStrategy(), cmd.getCountCap(),
+                        () -> boardRepository.countSearchAllBoards(cmd),
+                        limit -> boardRepository.countSearchAllBoardsUpTo(cmd, limit),
+                        () -> boardRepository.estimateSearchAllBoards(cmd)));
     }
 
     @Override
@@ -184,4 +214,15 @@ public class BoardServiceImpl implements BoardService {
     public String queryPrevBoard(String boardCode, Integer categoryId) {
         return boardRepository.queryPrevBoard(boardCode, categoryId);
     }
+
+    private CursorResponseDto<BoardResponse> toCursorResponse(List<BoardResponse> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<BoardResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? content.get(content.size() - 1).getBoardCode() : null;
+        return CursorResponseDto.<BoardResponse>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 }
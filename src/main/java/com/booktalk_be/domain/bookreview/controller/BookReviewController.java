@@ -7,10 +7,13 @@ import com.booktalk_be.domain.bookreview.command.BookReviewSearchCondCommand;
 import com.booktalk_be.domain.bookreview.responseDto.BookReviewAdminListDto;
 import com.booktalk_be.domain.bookreview.responseDto.BookReviewDetailDto;
 import com.booktalk_be.domain.bookreview.responseDto.BookReviewListDto;
+import com.booktalk_be.domain.bookreview.responseDto.BookStatsResponse;
 import com.booktalk_be.domain.bookreview.command.CreateBookReviewCommand;
 import com.booktalk_be.domain.bookreview.command.UpdateBookReviewCommand;
 import com.booktalk_be.domain.bookreview.service.BookReviewService;
-import com.booktalk_be.domain.member.model.entity.Member;
+import com.booktalk_be.domain.bookreview.service.BookStatsService;
+import com.booktalk_be.domain.member.service.MemberService;
+import com.booktalk_be.springconfig.auth.user.AuthMember;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -21,6 +24,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/book-reviews") // Corrected RequestMapping
 @RequiredArgsConstructor
@@ -28,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class BookReviewController {
 
     private final BookReviewService bookReviewService;
+    private final BookStatsService bookStatsService;
+    private final MemberService memberService;
 
     @PostMapping
     @Operation(summary = "책리뷰 등록", description = "새로운 책리뷰를 등록합니다.")
@@ -35,8 +42,8 @@ public class BookReviewController {
             @RequestBody CreateBookReviewCommand cmd,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
-        String bookReviewId = bookReviewService.createBookReview(member, cmd);
+        AuthMember member = (AuthMember) authentication.getPrincipal();
+        String bookReviewId = bookReviewService.createBookReview(memberService.getMemberReference(member.getMemberId()), cmd);
         return ResponseEntity.ok(ResponseDto.builder().code(200).msg("Success").data(bookReviewId).build());
     }
 
@@ -65,6 +72,22 @@ public class BookReviewController {
         return ResponseEntity.ok(ResponseDto.builder().code(200).msg("Success").data(bookReviewList).build());
     }
 
+    @GetMapping("/books/{isbn}/stats")
+    @Operation(summary = "도서별 서평 통계 조회", description = "ISBN 기준 서평 수와 평균 평점을 조회합니다.")
+    public ResponseEntity<ResponseDto> getBookStats(@PathVariable String isbn) {
+        BookStatsResponse stats = bookStatsService.getStats(isbn);
+        return ResponseEntity.ok(ResponseDto.builder().code(200).msg("Success").data(stats).build());
+    }
+
+    @GetMapping("/books/top-rated")
+    @Operation(summary = "평점 높은 도서 목록", description = "서평 수가 minReviews 이상인 도서를 평균 평점순으로 조회합니다.")
+    public ResponseEntity<ResponseDto> getTopRatedBooks(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "3") long minReviews
+    ) {
+        List<BookStatsResponse> books = bookStatsService.getTopRated(limit, minReviews);
+        return ResponseEntity.ok(ResponseDto.builder().code(200).msg("Success").data(books).build());
+    }
 
     @GetMapping("/{bookReviewId}")
     @Operation(summary = "서평 상세 조회", description = "서평 상세 정보를 조회합니다.")
@@ -82,7 +105,7 @@ public class BookReviewController {
             @RequestBody @Valid UpdateBookReviewCommand cmd,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         bookReviewService.updateBookReview(bookReviewId, cmd, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder().code(200).msg("Success").build());
     }
@@ -93,7 +116,7 @@ public class BookReviewController {
             @PathVariable String bookReviewId,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         bookReviewService.deleteBookReview(bookReviewId, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder().code(200).msg("Success").build());
     }
@@ -105,7 +128,7 @@ public class BookReviewController {
             @RequestParam(defaultValue = "10") int pageSize,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         Pageable pageable = PageRequest.of(pageNum - 1, pageSize);
         PageResponseDto<BookReviewListDto> bookReviewList = bookReviewService.getMyBookReviewList(member.getMemberId(), pageable);
         return ResponseEntity.ok(ResponseDto.builder().code(200).msg("Success").data(bookReviewList).build());
@@ -119,7 +142,7 @@ public class BookReviewController {
             @RequestParam(defaultValue = "10") int pageSize,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         Pageable pageable = PageRequest.of(pageNum - 1, pageSize);
         PageResponseDto<BookReviewListDto> bookReviewList = bookReviewService.searchMyBookReviews(member.getMemberId(), cmd, pageable);
         return ResponseEntity.ok(ResponseDto.builder().code(200).msg("Success").data(bookReviewList).build());
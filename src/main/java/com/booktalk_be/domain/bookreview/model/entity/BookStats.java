@@ -0,0 +1,46 @@
+package com.booktalk_be.domain.bookreview.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * ISBN별 서평 집계 테이블
+ * - reviewCnt / ratingSum: 삭제·제재되지 않은 서평 기준
+ * - avgRating: DB generated column (rating_sum / review_cnt)
+ * 값 변경은 BookStatsRepository의 원자적 upsert로만 수행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "book_stats")
+public class BookStats {
+
+    @Id
+    @Column(name = "isbn", nullable = false)
+    private String isbn;
+
+    @Column(name = "book_title")
+    private String bookTitle;
+
+    @Column(name = "authors")
+    private String authors;
+
+    @Column(name = "publisher")
+    private String publisher;
+
+    @Column(name = "thumbnail_url", length = 5000)
+    private String thumbnailUrl;
+
+    @Column(name = "review_cnt", nullable = false)
+    private Long reviewCnt;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+
+    @Column(name = "avg_rating", insertable = false, updatable = false)
+    private BigDecimal avgRating;
+}
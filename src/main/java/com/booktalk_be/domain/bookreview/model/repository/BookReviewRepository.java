@@ -2,8 +2,18 @@ package com.booktalk_be.domain.bookreview.model.repository;
 
 import com.booktalk_be.domain.bookreview.model.entity.BookReview;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BookReviewRepository extends JpaRepository<BookReview, String>, BookReviewRepositoryCustom {
+
+    /**
+     * 북리뷰 좋아요 수 증감 (like_cnt 컬럼만 갱신, 0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query(value = "UPDATE book_review SET like_cnt = GREATEST(COALESCE(like_cnt, 0) + :delta, 0) WHERE code = :code", nativeQuery = true)
+    int addLikeCount(@Param("code") String code, @Param("delta") int delta);
 }
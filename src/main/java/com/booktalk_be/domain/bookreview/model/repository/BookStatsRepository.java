@@ -0,0 +1,79 @@
+package com.booktalk_be.domain.bookreview.model.repository;
+
+import com.booktalk_be.domain.bookreview.model.entity.BookStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BookStatsRepository extends JpaRepository<BookStats, String> {
+
+    /**
+     * 집계 행이 없으면 생성하고, 있으면 서평 수/평점 합계를 delta 만큼 원자적으로 증감
+     * 책 정보(제목/저자 등)는 마지막으로 반영된 서평 기준으로 갱신
+     */
+    @Modifying
+    @Query(value = "INSERT INTO book_stats (isbn, book_title, authors, publisher, thumbnail_url, review_cnt, rating_sum) " +
+            "VALUES (:isbn, :bookTitle, :authors, :publisher, :thumbnailUrl, GREATEST(:cntDelta, 0), GREATEST(:ratingDelta, 0)) " +
+            "ON DUPLICATE KEY UPDATE review_cnt = GREATEST(review_cnt + :cntDelta, 0), " +
+            "rating_sum = GREATEST(rating_sum + :ratingDelta, 0), " +
+            "book_title = COALESCE(VALUES(book_title), book_title), " +
+            "authors = COALESCE(VALUES(authors), authors), " +
+            "publisher = COALESCE(VALUES(publisher), publisher), " +
+            "thumbnail_url = COALESCE(VALUES(thumbnail_url), thumbnail_url)", nativeQuery = true)
+    int upsertDelta(@Param("isbn") String isbn,
+                    @Param("bookTitle") String bookTitle,
+                    @Param("authors") String authors,
+                    @Param("publisher") String publisher,
+                    @Param("thumbnailUrl") String thumbnailUrl,
+                    @Param("cntDelta") long cntDelta,
+                    @Param("ratingDelta") long ratingDelta);
+
+    /**
+     * 평점순 도서 목록 (idx_book_stats_avg_rating 순서대로 스캔)
+     */
+    @Query("SELECT s FROM BookStats s WHERE s.reviewCnt >= :minReviews ORDER BY s.avgRating DESC, s.reviewCnt DESC")
+    List<BookStats> findTopRated(@Param("minReviews") long minReviews, Pageable pageable);
+
+    /**
+     * 정합성 보정: 실제 서평 수/평점 합계와 집계값이 다른 행
+     * 두 값을 한 SELECT 문(같은 read view)에서 읽는다.
+     * 반환: [isbn, 실제 서평 수, 실제 평점 합계, 읽은 서평 수(집계 행 없으면 null), 읽은 평점 합계]
+     */
+    @Query(value = "SELECT c.isbn, c.review_cnt, c.rating_sum, s.review_cnt, s.rating_sum " +
+            "FROM (SELECT r.isbn, SUM(r.del_yn = false) AS review_cnt, SUM(IF(r.del_yn = false, r.rating, 0)) AS rating_sum " +
+            "      FROM book_review r GROUP BY r.isbn) c " +
+            "LEFT JOIN book_stats s ON s.isbn = c.isbn " +
+            "WHERE s.isbn IS NULL OR c.review_cnt <> s.review_cnt OR c.rating_sum <> s.rating_sum " +
+            "UNION ALL " +
+            "SELECT s.isbn, 0, 0, s.review_cnt, s.rating_sum FROM book_stats s " +
+            "WHERE (s.review_cnt <> 0 OR s.rating_sum <> 0) " +
+            "AND NOT EXISTS (SELECT 1 FROM book_review r WHERE r.isbn = s.isbn)",
+            nativeQuery = true)
+    List<Object[]> findDrift();
+
+    /**
+     * 정합성 보정: 집계값이 findDrift에서 읽은 값 그대로일 때만 실제 값으로 교체 (compare-and-set)
+     */
+    @Modifying
+    @Query(value = "UPDATE book_stats SET review_cnt = :reviewCnt, rating_sum = :ratingSum " +
+            "WHERE isbn = :isbn AND review_cnt = :seenReviewCnt AND rating_sum = :seenRatingSum", nativeQuery = true)
+    int compareAndSet(@Param("isbn") String isbn,
+                      @Param("reviewCnt") long reviewCnt,
+                      @Param("ratingSum") long ratingSum,
+                      @Param("seenReviewCnt") long seenReviewCnt,
+                      @Param("seenRatingSum") long seenRatingSum);
+
+    /**
+     * 정합성 보정: 집계 행이 없을 때만 생성 (책 정보는 다음 서평 반영 시 채워짐)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO book_stats (isbn, review_cnt, rating_sum) VALUES (:isbn, :reviewCnt, :ratingSum) " +
+            "ON DUPLICATE KEY UPDATE isbn = isbn", nativeQuery = true)
+    int insertIfAbsent(@Param("isbn") String isbn,
+                       @Param("reviewCnt") long reviewCnt,
+                       @Param("ratingSum") long ratingSum);
+}
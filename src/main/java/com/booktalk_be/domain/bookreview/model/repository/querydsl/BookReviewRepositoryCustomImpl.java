@@ -5,10 +5,12 @@ import com.booktalk_be.domain.bookreview.command.BookReviewSearchCondCommand;
 import com.booktalk_be.domain.bookreview.responseDto.BookReviewAdminListDto;
 import com.booktalk_be.domain.bookreview.responseDto.BookReviewListDto;
 import com.booktalk_be.domain.bookreview.model.repository.BookReviewRepositoryCustom;
+import com.booktalk_be.domain.category.model.entity.PostType;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.core.types.dsl.Wildcard;
 import com.querydsl.jpa.impl.JPAQuery; // Corrected import
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -22,9 +24,12 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.booktalk_be.domain.bookreview.model.entity.QBookReview.bookReview;
+import static com.booktalk_be.domain.category.model.entity.QCategoryPostStats.categoryPostStats;
 
 public class BookReviewRepositoryCustomImpl extends Querydsl4RepositorySupport implements BookReviewRepositoryCustom {
 
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     public BookReviewRepositoryCustomImpl(JPAQueryFactory queryFactory) {
         super(queryFactory);
     }
@@ -48,13 +53,20 @@ public class BookReviewRepositoryCustomImpl extends Querydsl4RepositorySupport i
                 .limit(pageable.getPageSize())
                 .fetch();
 
+        // category_post_stats 집계값 사용, 집계 행이 없는 경우에만 COUNT 수행
         Long total = Optional.ofNullable(
+                        select(categoryPostStats.activeCnt)
+                                .from(categoryPostStats)
+                                .where(categoryPostStats.categoryId.eq(categoryId)
+                                        .and(categoryPostStats.postType.eq(PostType.BOOK_REVIEW)))
+                                .fetchOne())
+                .orElseGet(() -> Optional.ofNullable(
                         select(Wildcard.count)
                                 .from(bookReview)
                                 .where(bookReview.categoryId.eq(categoryId))
                                 .where(bookReview.delYn.eq(false))
                                 .fetchOne())
-                .orElse(0L);
+                        .orElse(0L));
 
         return new PageImpl<>(content, pageable, total);
     }
@@ -105,14 +117,29 @@ public class BookReviewRepositoryCustomImpl extends Querydsl4RepositorySupport i
             return null;
         }
         return switch (type) {
-            case TITLE -> bookReview.title.containsIgnoreCase(keyword);
-            case AUTHOR -> bookReview.authors.containsIgnoreCase(keyword);
-            case BOOK_TITLE -> bookReview.bookTitle.containsIgnoreCase(keyword);
-            case ISBN -> bookReview.isbn.containsIgnoreCase(keyword);
+            case TITLE -> fullTextMatch(bookReview.title, keyword);
+            case AUTHOR -> fullTextMatch(bookReview.authors, keyword);
+            case BOOK_TITLE -> fullTextMatch(bookReview.bookTitle, keyword);
+            case ISBN -> isbnMatch(keyword);
             default -> null;
         };
     }
 
+    // ngram FULLTEXT 검색 (ngram 토큰 길이 2 미만의 검색어는 인덱스로 찾을 수 없으므로 LIKE 유지)
+    private BooleanExpression fullTextMatch(StringPath column, String keyword) {
+        String trimmed = keyword.trim();
+        if (trimmed.length() < NGRAM_TOKEN_SIZE) {
+            return column.containsIgnoreCase(trimmed);
+        }
+        return Expressions.numberTemplate(Double.class,
+                "function('match_against', {0}, {1})", column, trimmed).gt(0);
+    }
+
+    // ISBN 완전/앞부분 일치: LIKE 'keyword%' → idx_bookreview_isbn range scan
+    private BooleanExpression isbnMatch(String keyword) {
+        return bookReview.isbn.startsWith(keyword.trim());
+    }
+
     private BooleanExpression dateFilter(LocalDate startDate, LocalDate endDate) {
         if (startDate != null && endDate != null) {
             return bookReview.regTime.between(
@@ -215,10 +242,15 @@ public class BookReviewRepositoryCustomImpl extends Querydsl4RepositorySupport i
                 .fetch();
 
         Long total = Optional.ofNullable(
+                        select(categoryPostStats.totalCnt.sum())
+                                .from(categoryPostStats)
+                                .where(categoryPostStats.postType.eq(PostType.BOOK_REVIEW))
+                                .fetchOne())
+                .orElseGet(() -> Optional.ofNullable(
                         select(Wildcard.count)
                                 .from(bookReview)
                                 .fetchOne())
-                .orElse(0L);
+                        .orElse(0L));
 
         return new PageImpl<>(content, pageable, total);
     }
@@ -265,10 +297,10 @@ public class BookReviewRepositoryCustomImpl extends Querydsl4RepositorySupport i
             return null;
         }
         return switch (type) {
-            case TITLE -> bookReview.title.containsIgnoreCase(keyword);
+            case TITLE -> fullTextMatch(bookReview.title, keyword);
             case AUTHOR -> bookReview.member.name.containsIgnoreCase(keyword);
-            case BOOK_TITLE -> bookReview.bookTitle.containsIgnoreCase(keyword);
-            case ISBN -> bookReview.isbn.containsIgnoreCase(keyword);
+            case BOOK_TITLE -> fullTextMatch(bookReview.bookTitle, keyword);
+            case ISBN -> isbnMatch(keyword);
             default -> null;
         };
     }
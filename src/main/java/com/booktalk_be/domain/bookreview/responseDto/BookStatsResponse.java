@@ -0,0 +1,27 @@
+package com.booktalk_be.domain.bookreview.responseDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookStatsResponse {
+    private String isbn;
+    @JsonProperty("book_title")
+    private String bookTitle;
+    private String authors;
+    private String publisher;
+    @JsonProperty("thumbnail_url")
+    private String thumbnailUrl;
+    @JsonProperty("review_count")
+    private Long reviewCount;
+    @JsonProperty("avg_rating")
+    private BigDecimal avgRating;
+}
@@ -1,6 +1,7 @@
 package com.booktalk_be.domain.bookreview.service;
 
 import com.booktalk_be.common.responseDto.PageResponseDto;
+import com.booktalk_be.common.service.ViewCountBuffer;
 import com.booktalk_be.domain.bookreview.command.BookReviewSearchCondCommand;
 import com.booktalk_be.domain.bookreview.responseDto.BookReviewAdminListDto;
 import com.booktalk_be.domain.bookreview.responseDto.BookReviewDetailDto;
@@ -9,6 +10,8 @@ import com.booktalk_be.domain.bookreview.command.CreateBookReviewCommand;
 import com.booktalk_be.domain.bookreview.command.UpdateBookReviewCommand;
 import com.booktalk_be.domain.bookreview.model.entity.BookReview;
 import com.booktalk_be.domain.bookreview.model.repository.BookReviewRepository;
+import com.booktalk_be.domain.category.model.entity.PostType;
+import com.booktalk_be.domain.category.service.CategoryPostStatsService;
 import com.booktalk_be.domain.member.model.entity.Member;
 import com.booktalk_be.domain.member.model.repository.MemberRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -27,6 +30,9 @@ public class BookReviewServiceImpl implements BookReviewService {
 
     private final BookReviewRepository bookReviewRepository;
     private final MemberRepository memberRepository;
+    private final CategoryPostStatsService categoryPostStatsService;
+    private final BookStatsService bookStatsService;
+    private final ViewCountBuffer viewCountBuffer;
 
     @Override
     public String createBookReview(Member member, CreateBookReviewCommand cmd) {
@@ -44,6 +50,8 @@ public class BookReviewServiceImpl implements BookReviewService {
                 .build();
 
         bookReviewRepository.save(bookReview);
+        categoryPostStatsService.onCreated(bookReview.getCategoryId(), PostType.BOOK_REVIEW);
+        bookStatsService.onActivated(bookReview);
         return bookReview.getCode();
     }
 
@@ -66,6 +74,7 @@ public class BookReviewServiceImpl implements BookReviewService {
     public BookReviewDetailDto getBookReview(String bookReviewId) {
         BookReview bookReview = bookReviewRepository.findById(bookReviewId)
                 .orElseThrow(() -> new EntityNotFoundException("BookReview not found with id: " + bookReviewId));
+        viewCountBuffer.increment(bookReviewId);
 
         BookReviewDetailDto post = BookReviewDetailDto.builder()
                 .code(bookReview.getCode())
@@ -98,7 +107,12 @@ public class BookReviewServiceImpl implements BookReviewService {
         if (bookReview.getMember().getMemberId() != memberId) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "수정 권한이 없습니다.");
         }
+        String oldIsbn = bookReview.getIsbn();
+        Integer oldRating = bookReview.getRating();
         bookReview.modify(cmd);
+        if (!bookReview.getDelYn()) {
+            bookStatsService.onModified(oldIsbn, oldRating, bookReview);
+        }
     }
 
     @Override
@@ -108,6 +122,10 @@ public class BookReviewServiceImpl implements BookReviewService {
         if (bookReview.getMember().getMemberId() != memberId) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "삭제 권한이 없습니다.");
         }
+        if (!bookReview.getDelYn()) {
+            categoryPostStatsService.onDeactivated(bookReview.getCategoryId(), PostType.BOOK_REVIEW);
+            bookStatsService.onDeactivated(bookReview);
+        }
         bookReview.delete();
     }
 
@@ -143,6 +161,10 @@ public class BookReviewServiceImpl implements BookReviewService {
     public void restrictBookReview(String bookReviewId, String delReason) {
         BookReview bookReview = bookReviewRepository.findById(bookReviewId)
                 .orElseThrow(() -> new EntityNotFoundException("BookReview not found with id: " + bookReviewId));
+        if (!bookReview.getDelYn()) {
+            categoryPostStatsService.onDeactivated(bookReview.getCategoryId(), PostType.BOOK_REVIEW);
+            bookStatsService.onDeactivated(bookReview);
+        }
         bookReview.restrict(delReason);
     }
 
@@ -150,6 +172,10 @@ public class BookReviewServiceImpl implements BookReviewService {
     public void recoverBookReview(String bookReviewId) {
         BookReview bookReview = bookReviewRepository.findById(bookReviewId)
                 .orElseThrow(() -> new EntityNotFoundException("BookReview not found with id: " + bookReviewId));
+        if (bookReview.getDelYn()) {
+            categoryPostStatsService.onActivated(bookReview.getCategoryId(), PostType.BOOK_REVIEW);
+            bookStatsService.onActivated(bookReview);
+        }
         bookReview.recover();
     }
 }
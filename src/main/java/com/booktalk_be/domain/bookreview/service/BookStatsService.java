@@ -0,0 +1,16 @@
+package com.booktalk_be.domain.bookreview.service;
+
+import com.booktalk_be.domain.bookreview.model.entity.BookReview;
+import com.booktalk_be.domain.bookreview.responseDto.BookStatsResponse;
+
+import java.util.List;
+
+public interface BookStatsService {
+
+    public void onActivated(BookReview bookReview);
+    public void onDeactivated(BookReview bookReview);
+    public void onModified(String oldIsbn, Integer oldRating, BookReview bookReview);
+    public BookStatsResponse getStats(String isbn);
+    public List<BookStatsResponse> getTopRated(int limit, long minReviews);
+    public void reconcile();
+}
@@ -0,0 +1,114 @@
+package com.booktalk_be.domain.bookreview.service;
+
+import com.booktalk_be.domain.bookreview.model.entity.BookReview;
+import com.booktalk_be.domain.bookreview.model.entity.BookStats;
+import com.booktalk_be.domain.bookreview.model.repository.BookStatsRepository;
+import com.booktalk_be.domain.bookreview.responseDto.BookStatsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ISBN별 서평 수/평점 집계 관리
+ *
+ * 설계 근거:
+ * - 책 페이지에서 평균 평점을 구하려면 book_review를 isbn으로 GROUP BY 해야 했음
+ * - 서평 등록/수정/삭제/제재/복구 시점에 book_stats 1행만 증감하고, 조회는 PK 1행 조회로 끝낸다.
+ * - 평점순 목록은 avg_rating generated column 인덱스를 그대로 따라 읽는다.
+ * - 증감 누락 분은 CategoryPostStatsService와 같은 주기로 재계산하여 보정
+ *   실제 값과 집계값을 같은 스냅샷에서 읽고, 집계값이 읽은 값 그대로일 때만 교체한다. (compare-and-set)
+ *   재계산 도중 커밋된 서평 증감은 덮어쓰지 않고, 여러 노드가 동시에 실행해도 한 노드만 보정한다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BookStatsServiceImpl implements BookStatsService {
+
+    private static final int MAX_TOP_RATED = 100;
+
+    private final BookStatsRepository bookStatsRepository;
+
+    @Override
+    public void onActivated(BookReview bookReview) {
+        bookStatsRepository.upsertDelta(bookReview.getIsbn(), bookReview.getBookTitle(), bookReview.getAuthors(),
+                bookReview.getPublisher(), bookReview.getThumbnailUrl(), 1, bookReview.getRating());
+    }
+
+    @Override
+    public void onDeactivated(BookReview bookReview) {
+        // 책 정보는 null로 넘겨 기존 값을 유지
+        bookStatsRepository.upsertDelta(bookReview.getIsbn(), null, null, null, null, -1, -bookReview.getRating());
+    }
+
+    @Override
+    public void onModified(String oldIsbn, Integer oldRating, BookReview bookReview) {
+        if (Objects.equals(oldIsbn, bookReview.getIsbn())) {
+            bookStatsRepository.upsertDelta(bookReview.getIsbn(), bookReview.getBookTitle(), bookReview.getAuthors(),
+                    bookReview.getPublisher(), bookReview.getThumbnailUrl(), 0, bookReview.getRating() - oldRating);
+            return;
+        }
+        // 다른 책으로 변경된 경우: 기존 ISBN에서 빼고 새 ISBN에 더한다.
+        bookStatsRepository.upsertDelta(oldIsbn, null, null, null, null, -1, -oldRating);
+        onActivated(bookReview);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookStatsResponse getStats(String isbn) {
+        return bookStatsRepository.findById(isbn)
+                .map(this::toResponse)
+                .orElseGet(() -> BookStatsResponse.builder()
+                        .isbn(isbn)
+                        .reviewCount(0L)
+                        .avgRating(BigDecimal.ZERO)
+                        .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookStatsResponse> getTopRated(int limit, long minReviews) {
+        int size = Math.max(1, Math.min(limit, MAX_TOP_RATED));
+        return bookStatsRepository.findTopRated(Math.max(1, minReviews), PageRequest.of(0, size)).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${app.stats.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${app.stats.reconcile-delay-ms:600000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        List<Object[]> drift = bookStatsRepository.findDrift();
+        int applied = 0;
+        for (Object[] row : drift) {
+            String isbn = (String) row[0];
+            long reviewCnt = ((Number) row[1]).longValue();
+            long ratingSum = ((Number) row[2]).longValue();
+            applied += row[3] == null
+                    ? bookStatsRepository.insertIfAbsent(isbn, reviewCnt, ratingSum)
+                    : bookStatsRepository.compareAndSet(isbn, reviewCnt, ratingSum,
+                            ((Number) row[3]).longValue(), ((Number) row[4]).longValue());
+        }
+        log.info("book_stats reconciled {}/{} rows in {}ms", applied, drift.size(), System.currentTimeMillis() - start);
+    }
+
+    private BookStatsResponse toResponse(BookStats stats) {
+        return BookStatsResponse.builder()
+                .isbn(stats.getIsbn())
+                .bookTitle(stats.getBookTitle())
+                .authors(stats.getAuthors())
+                .publisher(stats.getPublisher())
+                .thumbnailUrl(stats.getThumbnailUrl())
+                .reviewCount(stats.getReviewCnt())
+                .avgRating(stats.getAvgRating())
+                .build();
+    }
+}
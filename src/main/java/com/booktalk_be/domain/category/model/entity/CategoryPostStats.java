@@ -0,0 +1,35 @@
+package com.booktalk_be.domain.category.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리/게시글 유형별 게시글 수 집계 테이블
+ * - activeCnt: del_yn = false 게시글 수 (사용자 목록 페이징 total)
+ * - totalCnt: 삭제/제재 포함 전체 게시글 수 (관리자 목록 페이징 total)
+ * 값 변경은 CategoryPostStatsRepository의 원자적 UPDATE로만 수행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(CategoryPostStatsId.class)
+@Table(name = "category_post_stats")
+public class CategoryPostStats {
+
+    @Id
+    @Column(name = "category_id", nullable = false)
+    private Integer categoryId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "post_type", nullable = false)
+    private PostType postType;
+
+    @Column(name = "active_cnt", nullable = false)
+    private Long activeCnt;
+
+    @Column(name = "total_cnt", nullable = false)
+    private Long totalCnt;
+}
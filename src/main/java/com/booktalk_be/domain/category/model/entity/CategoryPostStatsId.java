@@ -0,0 +1,19 @@
+package com.booktalk_be.domain.category.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class CategoryPostStatsId implements Serializable {
+
+    private Integer categoryId;
+
+    private PostType postType;
+}
@@ -0,0 +1,17 @@
+package com.booktalk_be.domain.category.model.entity;
+
+import com.booktalk_be.common.utils.EntityEnumerable;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+@JsonFormat(shape = JsonFormat.Shape.OBJECT)
+public enum PostType implements EntityEnumerable {
+    BOARD("BOARD", "커뮤니티"),
+    BOOK_REVIEW("BOOK_REVIEW", "북리뷰");
+
+    private final String type;
+    private final String name;
+}
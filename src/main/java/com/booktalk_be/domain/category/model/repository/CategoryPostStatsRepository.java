@@ -0,0 +1,75 @@
+package com.booktalk_be.domain.category.model.repository;
+
+import com.booktalk_be.domain.category.model.entity.CategoryPostStats;
+import com.booktalk_be.domain.category.model.entity.CategoryPostStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CategoryPostStatsRepository extends JpaRepository<CategoryPostStats, CategoryPostStatsId> {
+
+    /**
+     * 집계 행이 없으면 생성하고, 있으면 delta 만큼 원자적으로 증감
+     */
+    @Modifying
+    @Query(value = "INSERT INTO category_post_stats (category_id, post_type, active_cnt, total_cnt) " +
+            "VALUES (:categoryId, :postType, GREATEST(:activeDelta, 0), GREATEST(:totalDelta, 0)) " +
+            "ON DUPLICATE KEY UPDATE active_cnt = GREATEST(active_cnt + :activeDelta, 0), " +
+            "total_cnt = GREATEST(total_cnt + :totalDelta, 0)", nativeQuery = true)
+    int upsertDelta(@Param("categoryId") Integer categoryId,
+                    @Param("postType") String postType,
+                    @Param("activeDelta") long activeDelta,
+                    @Param("totalDelta") long totalDelta);
+
+    /**
+     * 정합성 보정: 실제 게시글 수와 집계값이 다른 행 (집계 행이 없거나 게시글이 모두 사라진 경우 포함)
+     *
+     * 실제 개수와 저장된 집계값을 한 SELECT 문(같은 read view)에서 읽는다.
+     * 반환: [category_id, post_type, 실제 active, 실제 total, 읽은 active(집계 행 없으면 null), 읽은 total]
+     */
+    @Query(value = "SELECT c.category_id, c.post_type, c.active_cnt, c.total_cnt, s.active_cnt, s.total_cnt " +
+            "FROM (SELECT b.category_id, 'BOARD' AS post_type, SUM(b.del_yn = false) AS active_cnt, COUNT(*) AS total_cnt " +
+            "      FROM board b GROUP BY b.category_id " +
+            "      UNION ALL " +
+            "      SELECT r.category_id, 'BOOK_REVIEW', SUM(r.del_yn = false), COUNT(*) " +
+            "      FROM book_review r GROUP BY r.category_id) c " +
+            "LEFT JOIN category_post_stats s ON s.category_id = c.category_id AND s.post_type = c.post_type " +
+            "WHERE s.category_id IS NULL OR c.active_cnt <> s.active_cnt OR c.total_cnt <> s.total_cnt " +
+            "UNION ALL " +
+            "SELECT s.category_id, s.post_type, 0, 0, s.active_cnt, s.total_cnt FROM category_post_stats s " +
+            "WHERE (s.active_cnt <> 0 OR s.total_cnt <> 0) " +
+            "AND ((s.post_type = 'BOARD' AND NOT EXISTS (SELECT 1 FROM board b WHERE b.category_id = s.category_id)) " +
+            "OR (s.post_type = 'BOOK_REVIEW' AND NOT EXISTS (SELECT 1 FROM book_review r WHERE r.category_id = s.category_id)))",
+            nativeQuery = true)
+    List<Object[]> findDrift();
+
+    /**
+     * 정합성 보정: 집계값이 findDrift에서 읽은 값 그대로일 때만 실제 개수로 교체 (compare-and-set)
+     * 그 사이 증감이 커밋되었거나 다른 노드가 먼저 보정했으면 0건 갱신 → 다음 주기에 다시 비교
+     */
+    @Modifying
+    @Query(value = "UPDATE category_post_stats SET active_cnt = :activeCnt, total_cnt = :totalCnt " +
+            "WHERE category_id = :categoryId AND post_type = :postType " +
+            "AND active_cnt = :seenActiveCnt AND total_cnt = :seenTotalCnt", nativeQuery = true)
+    int compareAndSet(@Param("categoryId") Integer categoryId,
+                      @Param("postType") String postType,
+                      @Param("activeCnt") long activeCnt,
+                      @Param("totalCnt") long totalCnt,
+                      @Param("seenActiveCnt") long seenActiveCnt,
+                      @Param("seenTotalCnt") long seenTotalCnt);
+
+    /**
+     * 정합성 보정: 집계 행이 없을 때만 생성 (이미 있으면 변경 없음, 다른 오류는 그대로 전파)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO category_post_stats (category_id, post_type, active_cnt, total_cnt) " +
+            "VALUES (:categoryId, :postType, :activeCnt, :totalCnt) " +
+            "ON DUPLICATE KEY UPDATE category_id = category_id", nativeQuery = true)
+    int insertIfAbsent(@Param("categoryId") Integer categoryId,
+                       @Param("postType") String postType,
+                       @Param("activeCnt") long activeCnt,
+                       @Param("totalCnt") long totalCnt);
+}
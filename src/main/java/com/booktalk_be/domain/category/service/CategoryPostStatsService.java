@@ -0,0 +1,11 @@
+package com.booktalk_be.domain.category.service;
+
+import com.booktalk_be.domain.category.model.entity.PostType;
+
+public interface CategoryPostStatsService {
+
+    public void onCreated(Integer categoryId, PostType postType);
+    public void onDeactivated(Integer categoryId, PostType postType);
+    public void onActivated(Integer categoryId, PostType postType);
+    public void reconcile();
+}
@@ -0,0 +1,70 @@
+package com.booktalk_be.domain.category.service;
+
+import com.booktalk_be.domain.category.model.entity.PostType;
+import com.booktalk_be.domain.category.model.repository.CategoryPostStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 카테고리별 게시글 수 집계 관리
+ *
+ * 설계 근거:
+ * - 목록 조회마다 COUNT(*) 수행 시 board 100만행 기준 ~1,000ms 소요
+ * - 생성/삭제/제재/복구 시점에 증감하고, 목록 조회는 집계 테이블 1행만 읽는다.
+ * - 증감 누락(직접 DB 수정, 장애 등)으로 인한 오차는 주기적 재계산으로 보정
+ *
+ * 재계산 시 집계값을 스냅샷 값으로 무조건 덮어쓰면, 스냅샷을 읽은 뒤 커밋된 onCreated/onDeactivated 증감이
+ * 다음 주기까지 유실된다. 또 여러 노드가 같은 주기로 실행하므로 차이를 delta로 더하면 노드 수만큼 중복 보정된다.
+ * 그래서 실제 개수와 집계값을 한 문장(같은 스냅샷)에서 읽고, 집계값이 읽은 값 그대로일 때만 교체한다. (compare-and-set)
+ * - 스냅샷 이후 증감이 커밋된 행, 다른 노드가 먼저 보정한 행은 갱신되지 않고 다음 주기에 다시 비교된다.
+ * - 보정 대상 행이 계속 바쁘면 보정이 미뤄질 수 있으나, 증감 자체는 유실되지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CategoryPostStatsServiceImpl implements CategoryPostStatsService {
+
+    private final CategoryPostStatsRepository categoryPostStatsRepository;
+
+    @Override
+    public void onCreated(Integer categoryId, PostType postType) {
+        categoryPostStatsRepository.upsertDelta(categoryId, postType.getType(), 1, 1);
+    }
+
+    @Override
+    public void onDeactivated(Integer categoryId, PostType postType) {
+        categoryPostStatsRepository.upsertDelta(categoryId, postType.getType(), -1, 0);
+    }
+
+    @Override
+    public void onActivated(Integer categoryId, PostType postType) {
+        categoryPostStatsRepository.upsertDelta(categoryId, postType.getType(), 1, 0);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${app.stats.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${app.stats.reconcile-delay-ms:600000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        List<Object[]> drift = categoryPostStatsRepository.findDrift();
+        int applied = 0;
+        for (Object[] row : drift) {
+            Integer categoryId = ((Number) row[0]).intValue();
+            String postType = (String) row[1];
+            long activeCnt = ((Number) row[2]).longValue();
+            long totalCnt = ((Number) row[3]).longValue();
+            applied += row[4] == null
+                    ? categoryPostStatsRepository.insertIfAbsent(categoryId, postType, activeCnt, totalCnt)
+                    : categoryPostStatsRepository.compareAndSet(categoryId, postType, activeCnt, totalCnt,
+                            ((Number) row[4]).longValue(), ((Number) row[5]).longValue());
+        }
+        log.info("category_post_stats reconciled {}/{} rows in {}ms",
+                applied, drift.size(), System.currentTimeMillis() - start);
+    }
+}
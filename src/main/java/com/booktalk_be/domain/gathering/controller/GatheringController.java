@@ -16,7 +16,8 @@ import com.booktalk_be.domain.gathering.responseDto.mypage.MyPageGatheringRespon
 import com.booktalk_be.domain.gathering.responseDto.mypage.MyPageRecruitApprovalResponse;
 import com.booktalk_be.domain.gathering.responseDto.mypage.MyPageRecruitRequestResponse;
 import com.booktalk_be.domain.gathering.service.*;
-import com.booktalk_be.domain.member.model.entity.Member;
+import com.booktalk_be.domain.member.service.MemberService;
+import com.booktalk_be.springconfig.auth.user.AuthMember;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -45,17 +46,20 @@ public class GatheringController {
 
     private final GatheringBoardService gatheringBoardService;
 
+    private final MemberService memberService;
+
 
     @GetMapping("/list")
     @Tag(name = "Gathering API")
-    @Operation(summary = "모임 조회", description = "조건에 맞는 모임을 페이징하여 조회합니다.")
+    @Operation(summary = "모임 조회", description = "조건에 맞는 모임을 페이징하여 조회합니다. search는 모임 이름/소개 검색 (sort: views=조회수순, latest=최신순, relevance=검색 관련도순)")
     public ResponseEntity<ResponseDto> getList(
             @RequestParam(required = false) GatheringStatus status,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String sort,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "9") int size
     ) {
-        Page<GatheringResponse> result = gatheringService.getList(status, search, page, size);
+        Page<GatheringResponse> result = gatheringService.getList(status, search, sort, page, size);
         return ResponseEntity.ok(
                 ResponseDto.builder()
                         .code(200)
@@ -70,7 +74,7 @@ public class GatheringController {
     public ResponseEntity<ResponseDto> getDetail(
             @PathVariable String code,
             Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         var result = gatheringService.getDetailByCode(code, member.getMemberId());
 
         return ResponseEntity.ok(
@@ -89,7 +93,7 @@ public class GatheringController {
             @RequestPart("data") @Valid CreateGatheringCommand requestData,
             @RequestPart(value = "image", required = false) MultipartFile imageFile,
             Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         JsonPrinter.print(requestData);
         gatheringService.create(requestData, imageFile, member.getMemberId());
 
@@ -122,7 +126,7 @@ public class GatheringController {
     ) {
         int memberId = 0;
         if (authentication != null && authentication.isAuthenticated()
-                && authentication.getPrincipal() instanceof Member m) {
+                && authentication.getPrincipal() instanceof AuthMember m) {
             memberId = m.getMemberId();
         }
         return ResponseEntity.ok(gatheringService.getEditInitByCode(code, memberId));
@@ -138,8 +142,8 @@ public class GatheringController {
     ) {
         JsonPrinter.print(command);
 
-        Member member = (Member) authentication.getPrincipal();
-        gatheringService.updateGathering(code, command, image, member);
+        AuthMember member = (AuthMember) authentication.getPrincipal();
+        gatheringService.updateGathering(code, command, image, memberService.getMemberReference(member.getMemberId()));
 
         return ResponseEntity.ok(
                 ResponseDto.builder()
@@ -154,8 +158,8 @@ public class GatheringController {
             @RequestBody @Valid DeleteGatheringCommand request,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
-        gatheringService.softDeleteGathering(code, request.getReason(), member);
+        AuthMember member = (AuthMember) authentication.getPrincipal();
+        gatheringService.softDeleteGathering(code, request.getReason(), memberService.getMemberReference(member.getMemberId()));
         return ResponseEntity.ok(ResponseDto.builder().code(200).build());
     }
 
@@ -166,8 +170,8 @@ public class GatheringController {
             @RequestBody @Valid DeleteGatheringCommand request,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
-        gatheringService.restoreGathering(code, request.getReason(), member);
+        AuthMember member = (AuthMember) authentication.getPrincipal();
+        gatheringService.restoreGathering(code, request.getReason(), memberService.getMemberReference(member.getMemberId()));
         return ResponseEntity.ok(ResponseDto.builder().code(200).build());
     }
 
@@ -201,9 +205,9 @@ public class GatheringController {
             @Valid @RequestBody RecruitRequestCommand command,
             Authentication authentication
     ) {
-        Member memberId = (Member) authentication.getPrincipal();
+        AuthMember memberId = (AuthMember) authentication.getPrincipal();
 
-        gatheringRecruitRequestService.submit(code, memberId, command);
+        gatheringRecruitRequestService.submit(code, memberService.getMemberReference(memberId.getMemberId()), command);
 
         return ResponseEntity.ok(
                 ResponseDto.builder()
@@ -220,8 +224,8 @@ public class GatheringController {
     @Operation(summary = "모임 게시글 등록", description = "모임 게시글을 등록합니다.")
     public ResponseEntity<ResponseDto> create(@RequestBody @Valid CreateGatheringBoardCommand cmd,
                                               Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
-        gatheringBoardService.create(cmd, member);
+        AuthMember member = (AuthMember) authentication.getPrincipal();
+        gatheringBoardService.create(cmd, memberService.getMemberReference(member.getMemberId()));
         return ResponseEntity.ok(ResponseDto.builder().code(200).build());
     }
 
@@ -229,7 +233,7 @@ public class GatheringController {
     @Operation(summary = "모임 게시글 수정", description = "모임 게시글을 수정합니다.")
     public ResponseEntity<ResponseDto> modify(@RequestBody @Valid UpdateGatheringBoardCommand cmd,
                                                Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         gatheringBoardService.modify(cmd, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder().code(200).build());
     }
@@ -238,7 +242,7 @@ public class GatheringController {
     @Operation(summary = "모임 게시글 삭제", description = "모임 게시글을 삭제합니다.")
     public ResponseEntity<ResponseDto> delete(@PathVariable String postCode,
                                                Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         gatheringBoardService.delete(postCode, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder().code(200).build());
     }
@@ -259,8 +263,8 @@ public class GatheringController {
             @PathVariable String postCode,
             Authentication authentication) {
         Integer memberId = null;
-        if (authentication != null && authentication.getPrincipal() instanceof Member) {
-            memberId = ((Member) authentication.getPrincipal()).getMemberId();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthMember) {
+            memberId = ((AuthMember) authentication.getPrincipal()).getMemberId();
         }
         GatheringBoardDetailResponse res = gatheringBoardService.detail(postCode, memberId);
         return ResponseEntity.ok(ResponseDto.builder().code(200).data(res).build());
@@ -279,7 +283,7 @@ public class GatheringController {
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<MyPageGatheringResponse> page =
                 gatheringService.getMyGatherings(pageNum, pageSize, member.getMemberId());
 
@@ -298,7 +302,7 @@ public class GatheringController {
             @RequestBody @Valid GatheringSearchCondCommand cmd,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<MyPageGatheringResponse> page =
                 gatheringService.searchMyGatherings(cmd, pageNum, pageSize, member.getMemberId());
 
@@ -315,7 +319,7 @@ public class GatheringController {
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<MyPageGatheringBoardResponse> page =
                 gatheringBoardService.getMyGatheringBoards(pageNum, pageSize, member.getMemberId());
 
@@ -333,7 +337,7 @@ public class GatheringController {
             @RequestBody GatheringBoardSearchCondCommand cmd,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<MyPageGatheringBoardResponse> page =
                 gatheringBoardService.searchMyGatheringBoards(cmd, pageNum, pageSize, member.getMemberId());
 
@@ -351,7 +355,7 @@ public class GatheringController {
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
 
         PageResponseDto<MyPageRecruitRequestResponse> page =
                 gatheringRecruitRequestService.getMyRecruitRequests(pageNum, pageSize, member.getMemberId());
@@ -370,7 +374,7 @@ public class GatheringController {
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<MyPageRecruitApprovalResponse> page =
                 gatheringRecruitRequestService.getApprovalList(pageNum, pageSize, member.getMemberId());
 
@@ -383,7 +387,7 @@ public class GatheringController {
             @RequestBody @Valid ApproveRecruitCommand cmd,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         gatheringRecruitRequestService.approve(member.getMemberId(), cmd.getGathering_code(), cmd.getApplicant_id());
         return ResponseEntity.ok(ResponseDto.builder().code(200).msg("가입 승인 완료").build());
     }
@@ -394,7 +398,7 @@ public class GatheringController {
             @RequestBody @Valid RejectRecruitCommand cmd,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         gatheringRecruitRequestService.reject(member.getMemberId(), cmd.getGathering_code(), cmd.getApplicant_id(), cmd.getReject_reason());
         return ResponseEntity.ok(ResponseDto.builder().code(200).msg("가입 거절 완료").build());
     }
@@ -405,7 +409,7 @@ public class GatheringController {
             @PathVariable String gatheringCode,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         gatheringRecruitRequestService.withdraw(gatheringCode, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder().code(200).msg("가입 신청이 철회되었습니다.").build());
     }
@@ -68,6 +68,14 @@ public class Gathering extends CommonEntity {
     @Column(name = "del_reason") //삭제사유
     private String delReason;
 
+    // 현재 인원 수: 멤버 추가/제거 시 단일 UPDATE로만 증감 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "current_members", insertable = false, updatable = false)
+    private Integer currentMembers;
+
+    // 조회수: ViewCountBuffer 배치 반영으로만 증가
+    @Column(name = "views", insertable = false, updatable = false)
+    private Integer views;
+
     @Builder
     public Gathering(String name,
                      Long recruitmentPersonnel,
@@ -2,6 +2,7 @@ package com.booktalk_be.domain.gathering.model.repository;
 
 import com.booktalk_be.domain.gathering.model.entity.GatheringBoard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -27,4 +28,11 @@ public interface GatheringBoardRepository extends JpaRepository<GatheringBoard,
             @Param("pageSize") int pageSize
     );
 
+    /**
+     * 모임 게시글 좋아요 수 증감
+     */
+    @Modifying
+    @Query(value = "UPDATE gathering_board SET like_cnt = GREATEST(COALESCE(like_cnt, 0) + :delta, 0) WHERE code = :code", nativeQuery = true)
+    int addLikeCount(@Param("code") String code, @Param("delta") int delta);
+
 }
\ No newline at end of file
@@ -20,6 +20,10 @@ public interface GatheringRepository extends JpaRepository<Gathering, String>, G
     @Query("UPDATE Gathering g SET g.delYn = false, g.delReason = :reason WHERE g.code = :code AND g.delYn = true")
     int restore(@Param("code") String code, @Param("reason") String reason);
 
+    @Modifying
+    @Query(value = "UPDATE gathering SET current_members = GREATEST(current_members + :delta, 0) WHERE gathering_code = :code", nativeQuery = true)
+    int addCurrentMembers(@Param("code") String code, @Param("delta") int delta);
+
     @Query(value = "CALL sp_mypage_gathering_list(:memberId, :pageNum, :pageSize)", nativeQuery = true)
     List<Object[]> callMyGatheringList(
             @Param("memberId") int memberId,
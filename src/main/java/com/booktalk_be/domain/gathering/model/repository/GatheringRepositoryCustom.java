@@ -6,5 +6,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface GatheringRepositoryCustom{
-    Page<GatheringResponse> findGatheringList(GatheringStatus status, String search, Pageable pageable);
+    /**
+     * @param search 모임 이름/소개 FULLTEXT 검색어 (2글자 미만은 이름 LIKE 검색)
+     * @param sort "views"(조회수순) | "latest"(최신순) | "relevance"(검색 관련도순) | null(기본 순서)
+     */
+    Page<GatheringResponse> findGatheringList(GatheringStatus status, String search, String sort, Pageable pageable);
 }
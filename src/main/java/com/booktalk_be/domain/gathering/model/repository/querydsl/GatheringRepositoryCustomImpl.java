@@ -2,7 +2,6 @@ package com.booktalk_be.domain.gathering.model.repository.querydsl;
 
 import com.booktalk_be.domain.gathering.model.entity.Gathering;
 import com.booktalk_be.domain.gathering.model.entity.GatheringStatus;
-import com.booktalk_be.domain.gathering.model.entity.QGatheringMemberMap;
 import com.booktalk_be.domain.gathering.model.repository.GatheringRepositoryCustom;
 
 import com.booktalk_be.common.utils.Querydsl4RepositorySupport;
@@ -11,6 +10,9 @@ import com.booktalk_be.domain.gathering.responseDto.GatheringResponse;
 import com.booktalk_be.domain.hashtag.model.entity.QHashTag;
 import com.booktalk_be.domain.hashtag.model.entity.QHashTagMap;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import com.booktalk_be.domain.gathering.model.entity.QGathering;
@@ -22,17 +24,20 @@ import org.springframework.data.domain.Pageable;
 
 import org.springframework.util.StringUtils;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Repository
 public class GatheringRepositoryCustomImpl extends Querydsl4RepositorySupport implements GatheringRepositoryCustom {
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     protected GatheringRepositoryCustomImpl(JPAQueryFactory queryFactory) {
         super(queryFactory);
     }
 
     @Override
-    public Page<GatheringResponse> findGatheringList(GatheringStatus status, String search, Pageable pageable) {
+    public Page<GatheringResponse> findGatheringList(GatheringStatus status, String search, String sort, Pageable pageable) {
         QGathering gathering = QGathering.gathering;
-        QGatheringMemberMap gatheringMemberMap = QGatheringMemberMap.gatheringMemberMap;
         QHashTagMap hashTagMap = QHashTagMap.hashTagMap;
 
         // 조건 구성
@@ -41,8 +46,12 @@ public class GatheringRepositoryCustomImpl extends Querydsl4RepositorySupport im
         if (status != null) {
             condition.and(gathering.status.eq(status));
         }
-        if (StringUtils.hasText(search)) {
-            condition.and(gathering.name.containsIgnoreCase(search));
+        NumberExpression<Double> relevance = searchRelevance(gathering, search);
+        if (relevance != null) {
+            condition.and(relevance.gt(0));
+        } else if (StringUtils.hasText(search)) {
+            // ngram 토큰(2글자)보다 짧은 검색어는 FULLTEXT로 찾을 수 없으므로 LIKE 유지
+            condition.and(gathering.name.containsIgnoreCase(search.trim()));
         }
 
         // 전체 개수 먼저 조회
@@ -60,41 +69,60 @@ public class GatheringRepositoryCustomImpl extends Querydsl4RepositorySupport im
         List<Gathering> gatherings = getQueryFactory()
                 .selectFrom(gathering)
                 .where(condition)
+                .orderBy(listOrder(gathering, sort, relevance))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // DTO 매핑
-        List<GatheringResponse> content = gatherings.stream().map(entity -> {
-            // 실제 멤버 수 조회
-            long memberCount = getQueryFactory()
-                    .select(gatheringMemberMap.count())
-                    .from(gatheringMemberMap)
-                    .where(gatheringMemberMap.code.eq(entity))
-                    .fetchOne();
-
-            // 해시태그 리스트 조회
-            List<String> hashtags = getQueryFactory()
-                    .select(QHashTag.hashTag.value)
-                    .from(QHashTagMap.hashTagMap)
-                    .join(QHashTagMap.hashTagMap.hashtagId, QHashTag.hashTag)
-                    .where(QHashTagMap.hashTagMap.code.eq(entity))
-                    .fetch();
-
-
-            return GatheringResponse.builder()
-                    .code(entity.getCode())
-                    .title(entity.getName())
-                    .views((int) (Math.random() * 1000)) // 임시
-                    .currentMembers((int) memberCount)
-                    .maxMembers(entity.getRecruitmentPersonnel())
-                    .status(entity.getStatus())
-                    .imageUrl(entity.getImageUrl())
-                    .hashtags(hashtags) // 임시
-                    .build();
-        }).toList();
+        // 해시태그: 페이지 내 모임 코드로 한 번에 조회 후 메모리에서 그룹핑
+        List<String> codes = gatherings.stream().map(Gathering::getCode).toList();
+        Map<String, List<String>> hashtagsByCode = getQueryFactory()
+                .select(hashTagMap.code.code, QHashTag.hashTag.value)
+                .from(hashTagMap)
+                .join(hashTagMap.hashtagId, QHashTag.hashTag)
+                .where(hashTagMap.code.code.in(codes))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        t -> t.get(hashTagMap.code.code),
+                        Collectors.mapping(t -> t.get(QHashTag.hashTag.value), Collectors.toList())));
+
+        // DTO 매핑 (현재 인원은 gathering.current_members 컬럼 사용)
+        List<GatheringResponse> content = gatherings.stream().map(entity -> GatheringResponse.builder()
+                .code(entity.getCode())
+                .title(entity.getName())
+                .views(entity.getViews() == null ? 0 : entity.getViews())
+                .currentMembers(entity.getCurrentMembers() == null ? 0 : entity.getCurrentMembers())
+                .maxMembers(entity.getRecruitmentPersonnel())
+                .status(entity.getStatus())
+                .imageUrl(entity.getImageUrl())
+                .hashtags(hashtagsByCode.getOrDefault(entity.getCode(), List.of()))
+                .build()
+        ).toList();
 
         return new PageImpl<>(content, pageable, total);
     }
 
+    // MATCH(name, summary) AGAINST(? IN BOOLEAN MODE) — ft_gathering_name_summary 사용
+    private NumberExpression<Double> searchRelevance(QGathering gathering, String search) {
+        if (!StringUtils.hasText(search) || search.trim().length() < NGRAM_TOKEN_SIZE) {
+            return null;
+        }
+        return Expressions.numberTemplate(Double.class,
+                "function('match_against2', {0}, {1}, {2})", gathering.name, gathering.summary, search.trim());
+    }
+
+    private OrderSpecifier<?>[] listOrder(QGathering gathering, String sort, NumberExpression<Double> relevance) {
+        if ("relevance".equals(sort) && relevance != null) {
+            return new OrderSpecifier<?>[]{relevance.desc(), gathering.code.desc()};
+        }
+        if ("views".equals(sort)) {
+            return new OrderSpecifier<?>[]{gathering.views.desc(), gathering.code.desc()};
+        }
+        if ("latest".equals(sort)) {
+            return new OrderSpecifier<?>[]{gathering.regTime.desc()};
+        }
+        return new OrderSpecifier<?>[0];
+    }
+
 }
\ No newline at end of file
@@ -15,10 +15,10 @@ import java.util.List;
 public class GatheringResponse {
     private String code;
     private String title;
-    private int views;               // 임시 랜덤값
-    private int currentMembers;      // 임시 랜덤값
+    private int views;               // gathering.views (버퍼 반영 전 조회분 제외)
+    private int currentMembers;      // gathering.current_members
     private Long maxMembers;
     private GatheringStatus status;
     private String imageUrl;
-    private List<String> hashtags;   // 임시 더미 데이터
+    private List<String> hashtags;
 }
@@ -1,6 +1,7 @@
 package com.booktalk_be.domain.gathering.service;
 
 import com.booktalk_be.common.responseDto.PageResponseDto;
+import com.booktalk_be.common.service.ViewCountBuffer;
 import com.booktalk_be.domain.gathering.command.CreateGatheringBoardCommand;
 import com.booktalk_be.domain.gathering.command.UpdateGatheringBoardCommand;
 import com.booktalk_be.domain.gathering.command.mypage.GatheringBoardSearchCondCommand;
@@ -36,6 +37,7 @@ public class GatheringBoardServiceImpl implements GatheringBoardService {
     private final GatheringBoardRepository gatheringBoardRepository;
     private final GatheringRepository gatheringRepository;
     private final ReplyService replyService;
+    private final ViewCountBuffer viewCountBuffer;
 
     @Override
     public void create(CreateGatheringBoardCommand cmd, Member member) {
@@ -88,8 +90,9 @@ public class GatheringBoardServiceImpl implements GatheringBoardService {
     public GatheringBoardDetailResponse detail(String postCode, Integer memberId) {
         GatheringBoardPostDetailResponse detail = gatheringBoardRepository.getBoardDetailBy(postCode);
         if (detail == null) throw new EntityNotFoundException();
+        viewCountBuffer.increment(postCode);
 
-        List<ReplyResponse> replies = replyService.getRepliesByPostCode(detail.getBoardCode(), memberId);
+        List<ReplyResponse> replies = replyService.getReplyTreeByPostCode(detail.getBoardCode(), memberId);
 
         return GatheringBoardDetailResponse.builder()
                 .post(detail)
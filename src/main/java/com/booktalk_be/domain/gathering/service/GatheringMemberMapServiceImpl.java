@@ -4,6 +4,7 @@ import com.booktalk_be.domain.gathering.model.entity.Gathering;
 import com.booktalk_be.domain.gathering.model.entity.GatheringBookMap;
 import com.booktalk_be.domain.gathering.model.entity.GatheringMemberMap;
 import com.booktalk_be.domain.gathering.model.repository.GatheringMemberMapRepository;
+import com.booktalk_be.domain.gathering.model.repository.GatheringRepository;
 import com.booktalk_be.domain.member.model.entity.Member;
 import com.booktalk_be.domain.member.model.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ public class GatheringMemberMapServiceImpl implements GatheringMemberMapService
 
     private final MemberRepository memberRepository;
     private final GatheringMemberMapRepository gatheringMemberMapRepository;
+    private final GatheringRepository gatheringRepository;
 
     public void createGatheringMemberMap(Gathering gatheringSaved, Integer memberId){
         if (memberId != null) {
@@ -28,6 +30,7 @@ public class GatheringMemberMapServiceImpl implements GatheringMemberMapService
                     .masterYn(true)
                     .build();
             gatheringMemberMapRepository.save(gatheringMemberMap);
+            gatheringRepository.addCurrentMembers(gatheringSaved.getCode(), 1);
         }
     };
 }
@@ -18,7 +18,7 @@ import org.springframework.web.multipart.MultipartFile;
 public interface GatheringService {
     void create(CreateGatheringCommand command, MultipartFile imageFile, Integer memberId);
 
-    Page<GatheringResponse> getList(GatheringStatus status, String search, int page, int size);
+    Page<GatheringResponse> getList(GatheringStatus status, String search, String sort, int page, int size);
 
     GatheringDetailResponse getDetailByCode(String code, int currentMemberId);
 
@@ -1,6 +1,7 @@
 package com.booktalk_be.domain.gathering.service;
 
 import com.booktalk_be.common.responseDto.PageResponseDto;
+import com.booktalk_be.common.service.ViewCountBuffer;
 import com.booktalk_be.domain.gathering.command.CreateGatheringCommand;
 import com.booktalk_be.domain.gathering.command.EditGatheringRequest;
 import com.booktalk_be.domain.gathering.command.mypage.GatheringSearchCondCommand;
@@ -59,12 +60,13 @@ public class GatheringServiceImpl implements GatheringService {
     private final GatheringBookMapService gatheringBookMapService;
     private final GatheringRecruitQuestionService  gatheringRecruitQuestionService;
     private final HashTagService hashTagService;
+    private final ViewCountBuffer viewCountBuffer;
 
     //모임 리스트 전체조회 비즈니스 로직
     @Override
-    public Page<GatheringResponse> getList(GatheringStatus status, String search, int page, int size) {
+    public Page<GatheringResponse> getList(GatheringStatus status, String search, String sort, int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
-        return gatheringRepository.findGatheringList(status, search, pageable);
+        return gatheringRepository.findGatheringList(status, search, sort, pageable);
     }
 
     // 모임개설 비즈니스 로직
@@ -118,6 +120,13 @@ public class GatheringServiceImpl implements GatheringService {
 
     @Override
     public GatheringDetailResponse getDetailByCode(String code, int currentMemberId) {
+        GatheringDetailResponse detail = buildDetail(code, currentMemberId);
+        // 조회수는 회원별 중복 제거 후 버퍼에 누적 (DB 쓰기는 주기적 배치)
+        viewCountBuffer.increment(code, currentMemberId);
+        return detail;
+    }
+
+    private GatheringDetailResponse buildDetail(String code, int currentMemberId) {
         var g = gatheringRepository.findByCodeAndDelYnFalse(code)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "모임을 찾을 수 없습니다."));
 
@@ -137,7 +146,7 @@ public class GatheringServiceImpl implements GatheringService {
         Gathering gathering = gatheringRepository.findByCodeAndDelYnFalse(code)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "모임을 찾을 수 없습니다."));
 
-        GatheringDetailResponse base = getDetailByCode(code, currentMemberId);
+        GatheringDetailResponse base = buildDetail(code, currentMemberId);
 
         var bookRows = gatheringBookMapService.findAllByGathering(gathering);
         var books = bookRows.stream()
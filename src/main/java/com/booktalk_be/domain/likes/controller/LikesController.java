@@ -2,7 +2,7 @@ package com.booktalk_be.domain.likes.controller;
 
 import com.booktalk_be.common.utils.ResponseDto;
 import com.booktalk_be.domain.likes.service.LikesService;
-import com.booktalk_be.domain.member.model.entity.Member;
+import com.booktalk_be.springconfig.auth.user.AuthMember;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -24,8 +24,8 @@ public class LikesController {
     public ResponseEntity<ResponseDto> setLikes(
             @PathVariable String code,
             Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
-        likesService.addLike(code, member);
+        AuthMember member = (AuthMember) authentication.getPrincipal();
+        likesService.addLike(code, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
                 .data("좋아요가 등록되었습니다.")
@@ -38,8 +38,8 @@ public class LikesController {
     public ResponseEntity<ResponseDto> resetLikes(
             @PathVariable String code,
             Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
-        likesService.removeLike(code, member);
+        AuthMember member = (AuthMember) authentication.getPrincipal();
+        likesService.removeLike(code, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
                 .data("좋아요가 해제되었습니다.")
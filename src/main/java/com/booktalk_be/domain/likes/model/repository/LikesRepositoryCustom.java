@@ -1,6 +1,14 @@
 package com.booktalk_be.domain.likes.model.repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface LikesRepositoryCustom {
     boolean existsByCodeAndMemberId(String code, Integer memberId);
     long countByCode(String code);
+
+    /**
+     * 주어진 code 중 회원이 좋아요한 code 집합을 IN 쿼리 1회로 조회
+     */
+    Set<String> findLikedCodes(Integer memberId, Collection<String> codes);
 }
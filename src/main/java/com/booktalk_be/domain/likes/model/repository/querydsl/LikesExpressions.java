@@ -0,0 +1,36 @@
+package com.booktalk_be.domain.likes.model.repository.querydsl;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+
+import static com.booktalk_be.domain.likes.model.entity.QLikes.likes;
+
+/**
+ * 좋아요 관련 Querydsl 표현식
+ */
+public final class LikesExpressions {
+
+    private LikesExpressions() {
+    }
+
+    /**
+     * 목록/상세 조회 쿼리에 함께 넣는 좋아요 여부 서브쿼리 (비로그인 시 상수 false)
+     *
+     * @param targetCode 좋아요 대상 코드 경로 (예: board.code, reply.replyCode)
+     */
+    public static Expression<Boolean> likedByMember(Expression<String> targetCode, Integer memberId) {
+        if (memberId == null) {
+            return Expressions.booleanTemplate("false");
+        }
+        return new CaseBuilder()
+                .when(JPAExpressions.selectOne()
+                        .from(likes)
+                        .where(likes.code.eq(targetCode)
+                                .and(likes.member.memberId.eq(memberId)))
+                        .exists())
+                .then(true)
+                .otherwise(false);
+    }
+}
@@ -4,6 +4,10 @@ import com.booktalk_be.common.utils.Querydsl4RepositorySupport;
 import com.booktalk_be.domain.likes.model.repository.LikesRepositoryCustom;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 import static com.booktalk_be.domain.likes.model.entity.QLikes.likes;
 
 public class LikesRepositoryCustomImpl extends Querydsl4RepositorySupport implements LikesRepositoryCustom {
@@ -29,4 +33,16 @@ public class LikesRepositoryCustomImpl extends Querydsl4RepositorySupport implem
                 .fetchOne();
         return count != null ? count : 0L;
     }
+
+    @Override
+    public Set<String> findLikedCodes(Integer memberId, Collection<String> codes) {
+        if (memberId == null || codes == null || codes.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(select(likes.code)
+                .from(likes)
+                .where(likes.member.memberId.eq(memberId)
+                        .and(likes.code.in(codes)))
+                .fetch());
+    }
 }
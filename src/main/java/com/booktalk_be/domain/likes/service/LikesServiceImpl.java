@@ -1,13 +1,13 @@
 package com.booktalk_be.domain.likes.service;
 
-import com.booktalk_be.domain.board.model.entity.Board;
 import com.booktalk_be.domain.board.model.repository.BoardRepository;
+import com.booktalk_be.domain.bookreview.model.repository.BookReviewRepository;
+import com.booktalk_be.domain.gathering.model.repository.GatheringBoardRepository;
 import com.booktalk_be.domain.likes.model.entity.Likes;
 import com.booktalk_be.domain.likes.model.entity.LikesId;
 import com.booktalk_be.domain.likes.model.repository.LikesRepository;
 import com.booktalk_be.domain.member.model.entity.Member;
 import com.booktalk_be.domain.member.model.repository.MemberRepository;
-import com.booktalk_be.domain.reply.model.entity.Reply;
 import com.booktalk_be.domain.reply.model.repository.ReplyRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -23,17 +23,19 @@ public class LikesServiceImpl implements LikesService {
     private final LikesRepository likesRepository;
     private final BoardRepository boardRepository;
     private final ReplyRepository replyRepository;
+    private final BookReviewRepository bookReviewRepository;
+    private final GatheringBoardRepository gatheringBoardRepository;
     private final MemberRepository memberRepository;
 
     @Override
-    public void addLike(String code, Member member) {
+    public void addLike(String code, int memberId) {
         // Check if already liked
-        if (likesRepository.existsByCodeAndMemberId(code, member.getMemberId())) {
+        if (likesRepository.existsByCodeAndMemberId(code, memberId)) {
             return; // Already liked, do nothing
         }
 
         // Get managed Member reference to avoid detached entity error
-        Member managedMember = memberRepository.getReferenceById(member.getMemberId());
+        Member managedMember = memberRepository.getReferenceById(memberId);
 
         // Create like
         Likes like = Likes.create(code, managedMember);
@@ -44,9 +46,9 @@ public class LikesServiceImpl implements LikesService {
     }
 
     @Override
-    public void removeLike(String code, Member member) {
+    public void removeLike(String code, int memberId) {
         // Get managed Member reference to avoid detached entity error
-        Member managedMember = memberRepository.getReferenceById(member.getMemberId());
+        Member managedMember = memberRepository.getReferenceById(memberId);
 
         LikesId likesId = new LikesId(code, managedMember);
         Optional<Likes> existingLike = likesRepository.findById(likesId);
@@ -73,27 +75,17 @@ public class LikesServiceImpl implements LikesService {
     }
 
     private void updateLikeCount(String code, boolean increment) {
-        // Board codes start with "BO_"
+        // 엔티티를 읽지 않고 like_cnt = like_cnt ± 1 단일 UPDATE로 반영
+        // (동시 좋아요 시 낙관적 락 충돌/갱신 유실 방지)
+        int delta = increment ? 1 : -1;
         if (code.startsWith("BO_")) {
-            Optional<Board> board = boardRepository.findById(code);
-            board.ifPresent(b -> {
-                if (increment) {
-                    b.incrementLikes();
-                } else {
-                    b.decrementLikes();
-                }
-            });
-        }
-        // Reply codes start with "REP_"
-        else if (code.startsWith("REP_")) {
-            Optional<Reply> reply = replyRepository.findById(code);
-            reply.ifPresent(r -> {
-                if (increment) {
-                    r.incrementLikes();
-                } else {
-                    r.decrementLikes();
-                }
-            });
+            boardRepository.addLikeCount(code, delta);
+        } else if (code.startsWith("REP_")) {
+            replyRepository.addLikeCount(code, delta);
+        } else if (code.startsWith("BR_")) {
+            bookReviewRepository.addLikeCount(code, delta);
+        } else if (code.startsWith("GAB_")) {
+            gatheringBoardRepository.addLikeCount(code, delta);
         }
     }
 }
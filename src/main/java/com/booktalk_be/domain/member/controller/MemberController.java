@@ -10,6 +10,7 @@ import com.booktalk_be.domain.member.command.ValidationMemberCommand;
 import com.booktalk_be.domain.member.model.entity.Member;
 import com.booktalk_be.domain.member.responseDto.MemberInformationResponse;
 import com.booktalk_be.domain.member.service.MemberService;
+import com.booktalk_be.springconfig.auth.user.AuthMember;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -45,7 +46,8 @@ public class MemberController {
     @Tag(name = "Member Modify API")
     @Operation(summary = "회원 정보 수정", description = "기존 멤버의 정보를 수정합니다.")
     public ResponseEntity<ResponseDto> modify(@RequestBody @Valid ModifyMemberCommand cmd, Authentication authentication) {
-        Member member = memberService.modifyMember(cmd, authentication);
+        AuthMember authMember = (AuthMember) authentication.getPrincipal();
+        Member member = memberService.modifyMember(cmd, authMember.getMemberId());
         System.out.println("modify new Member :" + member.getName());
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -88,9 +90,9 @@ public class MemberController {
     @Tag(name = "Member Information API")
     @Operation(summary = "회원 정보 조회", description = "현재 인증 된 회원 정보를 조회합니다.")
     public ResponseEntity<ResponseDto> getAuthenticationMember(Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         System.out.println("게또 이메일"+ member.getEmail());
-        MemberInformationResponse memberDto = memberService.getAuthenticationMember(member);
+        MemberInformationResponse memberDto = memberService.getAuthenticationMember(member.getMemberId());
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ResponseDto.builder()
                         .code(200)
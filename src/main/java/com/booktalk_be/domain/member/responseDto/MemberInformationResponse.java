@@ -14,16 +14,16 @@ import java.time.LocalDateTime;
 @Getter
 @AllArgsConstructor
 public class MemberInformationResponse {
-    private int id;
-    private String name;
-    private String email;
-    private String phoneNumber;
-    private String address;
-    private LocalDate birth;
-    private LocalDate joinDate;
-    private String gender;
-    private String authType;
-    private String authority;
+    private final int id;
+    private final String name;
+    private final String email;
+    private final String phoneNumber;
+    private final String address;
+    private final LocalDate birth;
+    private final LocalDate joinDate;
+    private final String gender;
+    private final String authType;
+    private final String authority;
 //    private AuthenticateType authType;
 //    private AuthorityType authority;
 
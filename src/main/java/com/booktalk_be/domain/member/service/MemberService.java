@@ -1,6 +1,7 @@
 package com.booktalk_be.domain.member.service;
 
 
+import com.booktalk_be.common.cache.AfterCommit;
 import com.booktalk_be.common.command.MemberSearchCondCommand;
 import com.booktalk_be.common.responseDto.PageResponseDto;
 import com.booktalk_be.domain.auth.model.entity.AuthorityType;
@@ -15,7 +16,9 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.core.Authentication;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -31,12 +34,28 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final CacheManager cacheManager;
 
+    /**
+     * 회원 필드(이메일/권한 등)를 읽어야 하는 곳에서 호출 (캐시하지 않음)
+     */
     public Member getMemberById (int id) {
         return memberRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("회원 없음"));
     }
 
+    /**
+     * 새 엔티티의 작성자 등 연관관계 연결에만 쓰는 회원 참조 (SELECT 없음)
+     *
+     * 설계 근거:
+     * - 게시글/댓글/모임 작성 시 회원은 FK 값으로만 쓰이므로 엔티티를 조회할 필요가 없다
+     * - 반환값은 초기화되지 않은 프록시이므로 getMemberId() 외의 필드를 읽으면 안 된다
+     *   (존재하지 않는 ID는 저장 시 FK 오류로 드러남)
+     */
+    public Member getMemberReference (int id) {
+        return memberRepository.getReferenceById(id);
+    }
+
     public List<MemberInformationResponse> getMemberAllList () {
         List<MemberInformationResponse> allMemberList = memberRepository.findAll()
                 .stream()
@@ -53,11 +72,13 @@ public class MemberService {
         return memberRepository.save(member);
     }
 
-    public Member modifyMember(ModifyMemberCommand memberDTO, Authentication authentication) {
-        Member authMember = (Member) authentication.getPrincipal();
+    public Member modifyMember(ModifyMemberCommand memberDTO, int memberId) {
+        Member authMember = memberRepository.findById(memberId)
+                .orElseThrow(() -> new EntityNotFoundException("회원 없음"));
         String encordPassword = bCryptPasswordEncoder.encode(memberDTO.getPassword());
         authMember.modify(memberDTO, encordPassword);
         memberRepository.save(authMember);
+        evictMemberCache(memberId);
         return authMember;
     }
 
@@ -66,14 +87,35 @@ public class MemberService {
         return memberRepository.existsMembersByEmail(email);
     }
 
-    public MemberInformationResponse getAuthenticationMember (Member member) {
-        return new MemberInformationResponse(member);
+    /**
+     * 현재 인증 회원 정보 (member 캐시, 짧은 TTL)
+     *
+     * 설계 근거:
+     * - 엔티티 대신 불변 DTO를 캐시하여 요청 간에 영속성 컨텍스트 밖의 엔티티를 공유하지 않는다
+     *   (지연 로딩 예외, 한 요청의 변경이 다른 요청에 보이는 문제 방지)
+     * - 회원 정보/권한 수정 시 커밋 이후에 evict (evictMemberCache)
+     */
+    @Cacheable(value = "member", key = "#memberId")
+    public MemberInformationResponse getAuthenticationMember (int memberId) {
+        return new MemberInformationResponse(getMemberById(memberId));
     }
 
     public Member modifyRole(String id, String role) {
-        Member member = getMemberById(Integer.parseInt(id));
+        int memberId = Integer.parseInt(id);
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new EntityNotFoundException("회원 없음"));
         member.modifyRole(AuthorityType.valueOf(role));
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        evictMemberCache(memberId);
+        return saved;
+    }
+
+    // 커밋 전에 evict하면 다른 요청이 커밋 전 값을 다시 캐시에 올릴 수 있으므로 커밋 이후 실행
+    private void evictMemberCache(int memberId) {
+        Cache cache = cacheManager.getCache("member");
+        if (cache != null) {
+            AfterCommit.run(() -> cache.evict(memberId));
+        }
     }
 
     public PageResponseDto<MemberInformationResponse> getMembersForPaging(Integer pageNum, Integer pageSize) {
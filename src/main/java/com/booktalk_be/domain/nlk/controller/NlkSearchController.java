@@ -16,8 +16,9 @@ public class NlkSearchController {
     public NlkSearchResponse search(
             @RequestParam("kwd") String kwd,
             @RequestParam(name = "pageNum", defaultValue = "1") int pageNum,
-            @RequestParam(name = "pageSize", defaultValue = "20") int pageSize
+            @RequestParam(name = "pageSize", defaultValue = "20") int pageSize,
+            @RequestParam(name = "localFirst", defaultValue = "false") boolean localFirst
     ) {
-        return nlkSearchService.search(kwd, pageNum, pageSize);
+        return nlkSearchService.search(kwd, pageNum, pageSize, localFirst);
     }
 }
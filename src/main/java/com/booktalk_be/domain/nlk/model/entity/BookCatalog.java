@@ -0,0 +1,44 @@
+package com.booktalk_be.domain.nlk.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * NLK 검색 결과 로컬 카탈로그
+ * 행 추가/갱신은 BookCatalogService의 배치 upsert로만 수행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "book_catalog")
+public class BookCatalog {
+
+    @Id
+    @Column(name = "isbn", nullable = false, length = 20)
+    private String isbn;
+
+    @Column(name = "title", nullable = false, length = 500)
+    private String title;
+
+    @Column(name = "author", length = 500)
+    private String author;
+
+    @Column(name = "publisher")
+    private String publisher;
+
+    @Column(name = "pub_year", length = 20)
+    private String pubYear;
+
+    @Column(name = "cover_url", length = 1000)
+    private String coverUrl;
+
+    @Column(name = "control_no", length = 50)
+    private String controlNo;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.booktalk_be.domain.nlk.model.repository;
+
+import com.booktalk_be.domain.nlk.model.entity.BookCatalog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookCatalogRepository extends JpaRepository<BookCatalog, String> {
+
+    /**
+     * 제목 ngram FULLTEXT 검색 (관련도순, NLK srchTarget=title과 같은 대상)
+     */
+    @Query(value = "SELECT * FROM book_catalog " +
+            "WHERE MATCH(title) AGAINST(:kwd IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(title) AGAINST(:kwd IN BOOLEAN MODE) DESC, isbn " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<BookCatalog> search(@Param("kwd") String kwd, @Param("limit") int limit, @Param("offset") int offset);
+
+    @Query(value = "SELECT COUNT(*) FROM book_catalog " +
+            "WHERE MATCH(title) AGAINST(:kwd IN BOOLEAN MODE)", nativeQuery = true)
+    long countByKeyword(@Param("kwd") String kwd);
+
+    @Query(value = "SELECT COUNT(*) FROM book_catalog " +
+            "WHERE MATCH(title) AGAINST(:kwd IN BOOLEAN MODE) AND updated_at < :staleBefore", nativeQuery = true)
+    long countStaleByKeyword(@Param("kwd") String kwd, @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -0,0 +1,205 @@
+package com.booktalk_be.domain.nlk.service;
+
+import com.booktalk_be.domain.nlk.model.entity.BookCatalog;
+import com.booktalk_be.domain.nlk.model.repository.BookCatalogRepository;
+import com.booktalk_be.domain.nlk.responseDto.NlkBookDto;
+import com.booktalk_be.domain.nlk.responseDto.NlkSearchResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NLK 검색 결과 로컬 카탈로그 관리
+ *
+ * 설계 근거:
+ * - 모임 생성/서평 작성의 도서 검색이 매번 NLK API를 호출 → 이미 받아 파싱한 결과를 ISBN 기준으로 보관
+ * - 검색 응답 경로에서 DB 쓰기를 하지 않도록 ISBN별 최신 값만 버퍼에 모아 두고 주기적으로 배치 upsert
+ * - local-first 검색: 검색어 단위로 출처를 정한다 (coversKeyword).
+ *   NLK가 알려준 전체 건수 이상을 카탈로그가 가지고 있고 일치 행이 모두 stale 기준보다 최근일 때만 카탈로그를 쓴다.
+ *   페이지마다 출처를 정하면 카탈로그와 NLK의 순서가 달라 페이지 간 중복/누락이 생기고 total도 바뀐다.
+ * - 카탈로그 검색은 NLK(srchTarget=title)와 같은 대상을 보도록 제목 FULLTEXT만 사용
+ * - 검색어가 BOOLEAN MODE 구문 오류를 일으키면 카탈로그를 쓰지 않고 NLK로 넘긴다.
+ */
+@Slf4j
+@Service
+public class BookCatalogService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO book_catalog (isbn, title, author, publisher, pub_year, cover_url, control_no, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE title = VALUES(title), author = VALUES(author), publisher = VALUES(publisher), " +
+            "pub_year = VALUES(pub_year), cover_url = VALUES(cover_url), control_no = VALUES(control_no), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final int MAX_ISBN_LENGTH = 20;
+    private static final int MAX_TRACKED_KEYWORDS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookCatalogRepository bookCatalogRepository;
+    private final Duration staleAfter;
+
+    private final ConcurrentHashMap<String, Entry> pending = new ConcurrentHashMap<>();
+
+    // 검색어별 NLK 전체 건수 (카탈로그가 검색 결과 전체를 덮는지 판단하는 기준)
+    private final Cache<String, Integer> nlkTotals;
+
+    private record Entry(NlkBookDto book, LocalDateTime seenAt) {}
+
+    public BookCatalogService(JdbcTemplate jdbcTemplate,
+                              BookCatalogRepository bookCatalogRepository,
+                              @Value("${app.nlk.catalog.stale-days:30}") long staleDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookCatalogRepository = bookCatalogRepository;
+        this.staleAfter = Duration.ofDays(staleDays);
+        this.nlkTotals = Caffeine.newBuilder()
+                .expireAfterWrite(staleAfter)
+                .maximumSize(MAX_TRACKED_KEYWORDS)
+                .build();
+    }
+
+    /**
+     * NLK 응답 항목을 upsert 대기열에 추가 (ISBN 없는 항목은 제외)
+     */
+    public void offer(List<NlkBookDto> books) {
+        LocalDateTime now = LocalDateTime.now();
+        for (NlkBookDto book : books) {
+            String isbn = book.getIsbn();
+            if (isbn == null || isbn.isEmpty() || isbn.length() > MAX_ISBN_LENGTH) {
+                continue;
+            }
+            pending.put(isbn, new Entry(book, now));
+        }
+    }
+
+    /**
+     * NLK 응답의 전체 건수 기록
+     */
+    public void recordTotal(String kwd, int total) {
+        nlkTotals.put(kwd, total);
+    }
+
+    /**
+     * 검색어의 결과 전체를 카탈로그로 응답할 수 있는지 판단
+     *
+     * 트랜잭션 없이 조회한다. FULLTEXT 구문 오류가 트랜잭션을 rollback-only로 만들면
+     * 예외를 잡아도 커밋 시점에 다시 실패하기 때문이다.
+     */
+    public boolean coversKeyword(String kwd) {
+        if (kwd.length() < NGRAM_TOKEN_SIZE) {
+            return false;
+        }
+        Integer nlkTotal = nlkTotals.getIfPresent(kwd);
+        if (nlkTotal == null || nlkTotal == 0) {
+            return false;
+        }
+        try {
+            LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+            return bookCatalogRepository.countByKeyword(kwd) >= nlkTotal
+                    && bookCatalogRepository.countStaleByKeyword(kwd, staleBefore) == 0;
+        } catch (DataAccessException e) {
+            log.debug("Book catalog keyword check failed, using NLK (kwd={}): {}", kwd, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 카탈로그 검색 결과 한 페이지 (coversKeyword로 출처가 정해진 검색어에만 사용)
+     * 조회에 실패하면 empty (NLK 호출 필요)
+     */
+    public Optional<NlkSearchResponse> searchLocal(String kwd, int pageNum, int pageSize) {
+        if (kwd.length() < NGRAM_TOKEN_SIZE || pageNum < 1 || pageSize < 1) {
+            return Optional.empty();
+        }
+        List<BookCatalog> rows;
+        long total;
+        try {
+            rows = bookCatalogRepository.search(kwd, pageSize, (pageNum - 1) * pageSize);
+            total = bookCatalogRepository.countByKeyword(kwd);
+        } catch (DataAccessException e) {
+            log.debug("Book catalog search failed, using NLK (kwd={}): {}", kwd, e.getMessage());
+            return Optional.empty();
+        }
+        List<NlkBookDto> items = new ArrayList<>(rows.size());
+        for (BookCatalog row : rows) {
+            items.add(NlkBookDto.builder()
+                    .id(row.getIsbn())
+                    .title(row.getTitle())
+                    .isbn(row.getIsbn())
+                    .author(row.getAuthor())
+                    .year(row.getPubYear())
+                    .cover(row.getCoverUrl())
+                    .publisher(row.getPublisher())
+                    .build());
+        }
+        return Optional.of(NlkSearchResponse.builder()
+                .total((int) total)
+                .pageNum(pageNum)
+                .pageSize(pageSize)
+                .items(items)
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${app.nlk.catalog.flush-delay-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (String isbn : pending.keySet()) {
+            Entry entry = pending.remove(isbn);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            NlkBookDto book = entry.book();
+            args.add(new Object[]{
+                    book.getIsbn(),
+                    truncate(book.getTitle(), 500),
+                    truncate(book.getAuthor(), 500),
+                    truncate(book.getPublisher(), 255),
+                    truncate(book.getYear(), 20),
+                    truncate(book.getCover(), 1000),
+                    book.getId() != null && !book.getId().equals(book.getIsbn()) ? truncate(book.getId(), 50) : null,
+                    Timestamp.valueOf(entry.seenAt())
+            });
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+        } catch (Exception e) {
+            // 반영 실패분은 더 최신 값이 들어오지 않았을 때만 되돌려 다음 주기에 재시도
+            log.error("Book catalog flush failed ({} rows): {}", args.size(), e.getMessage());
+            entries.forEach(entry -> pending.putIfAbsent(entry.book().getIsbn(), entry));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
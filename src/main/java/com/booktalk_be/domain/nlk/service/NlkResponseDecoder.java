@@ -0,0 +1,234 @@
+package com.booktalk_be.domain.nlk.service;
+
+import com.booktalk_be.domain.nlk.responseDto.NlkBookDto;
+import com.booktalk_be.domain.nlk.responseDto.NlkSearchResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * NLK 검색 응답 streaming 디코더
+ *
+ * 응답 본문을 String/JsonNode 트리로 만들지 않고 JsonParser로 읽으면서 바로 NlkBookDto를 만든다.
+ * 목록 위치는 기존 트리 디코더와 같은 고정 우선순위 result[] > result.items[] > items[] > docs[] > channel.item[]를 따른다.
+ * 문서에 나오는 순서와 무관하게, 이미 읽은 배열보다 우선순위가 높은 배열이 나오면 그 배열로 교체한다.
+ * 필드별 후보 이름도 기존 우선순위(앞에 있을수록 우선)를 그대로 따르고,
+ * 값이 없는 필드는 기존과 같이 빈 문자열이 된다. (id: isbn → control_no → controlNo → id, 모두 없으면 "")
+ */
+public class NlkResponseDecoder {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern NON_ISBN_CHAR = Pattern.compile("[^0-9Xx]");
+
+    // 필드 슬롯
+    private static final int TITLE = 0;
+    private static final int PUBLISHER = 1;
+    private static final int ISBN = 2;
+    private static final int AUTHOR = 3;
+    private static final int YEAR = 4;
+    private static final int COVER = 5;
+    private static final int ID = 6;
+    private static final int SLOT_COUNT = 7;
+
+    // 목록 배열 우선순위 (작을수록 우선)
+    private static final int RANK_RESULT = 0;
+    private static final int RANK_RESULT_ITEMS = 1;
+    private static final int RANK_ITEMS = 2;
+    private static final int RANK_DOCS = 3;
+    private static final int RANK_CHANNEL_ITEM = 4;
+
+    private final JsonFactory jsonFactory;
+
+    public NlkResponseDecoder(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public NlkSearchResponse decode(InputStream body, int pageNum, int pageSize) throws IOException {
+        int total = 0;
+        Integer resultTotal = null;
+        ItemsCandidate candidate = new ItemsCandidate();
+
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (p.nextToken() == JsonToken.START_OBJECT) {
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = p.currentName();
+                    JsonToken token = p.nextToken();
+                    switch (name) {
+                        case "total" -> {
+                            total = p.getValueAsInt(0);
+                            p.skipChildren();
+                        }
+                        case "result" -> {
+                            if (token == JsonToken.START_ARRAY) {
+                                readOrSkip(p, candidate, RANK_RESULT);
+                            } else if (token == JsonToken.START_OBJECT) {
+                                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                                    String inner = p.currentName();
+                                    JsonToken innerToken = p.nextToken();
+                                    if ("total".equals(inner) && innerToken.isScalarValue()) {
+                                        resultTotal = p.getValueAsInt(0);
+                                    } else if ("items".equals(inner) && innerToken == JsonToken.START_ARRAY) {
+                                        readOrSkip(p, candidate, RANK_RESULT_ITEMS);
+                                    } else {
+                                        p.skipChildren();
+                                    }
+                                }
+                            }
+                        }
+                        case "items", "docs" -> {
+                            if (token == JsonToken.START_ARRAY) {
+                                readOrSkip(p, candidate, "items".equals(name) ? RANK_ITEMS : RANK_DOCS);
+                            } else {
+                                p.skipChildren();
+                            }
+                        }
+                        case "channel" -> {
+                            if (token == JsonToken.START_OBJECT) {
+                                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                                    String inner = p.currentName();
+                                    JsonToken innerToken = p.nextToken();
+                                    if ("item".equals(inner) && innerToken == JsonToken.START_ARRAY) {
+                                        readOrSkip(p, candidate, RANK_CHANNEL_ITEM);
+                                    } else {
+                                        p.skipChildren();
+                                    }
+                                }
+                            } else {
+                                p.skipChildren();
+                            }
+                        }
+                        default -> p.skipChildren();
+                    }
+                }
+            }
+        }
+
+        return NlkSearchResponse.builder()
+                .total(resultTotal != null ? resultTotal : total)
+                .pageNum(pageNum)
+                .pageSize(pageSize)
+                .items(candidate.items != null ? candidate.items : List.of())
+                .build();
+    }
+
+    /**
+     * 이미 읽은 목록보다 우선순위가 낮거나 같은 배열은 건너뜀
+     */
+    private void readOrSkip(JsonParser p, ItemsCandidate found, int rank) throws IOException {
+        if (rank >= found.rank) {
+            p.skipChildren();
+            return;
+        }
+        List<NlkBookDto> items = new ArrayList<>();
+        String[] values = new String[SLOT_COUNT];
+        int[] priorities = new int[SLOT_COUNT];
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            NlkBookDto item = readItem(p, values, priorities);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        found.rank = rank;
+        found.items = items;
+    }
+
+    private NlkBookDto readItem(JsonParser p, String[] values, int[] priorities) throws IOException {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            values[i] = null;
+            priorities[i] = Integer.MAX_VALUE;
+        }
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            JsonToken token = p.nextToken();
+            if (!token.isScalarValue()) {
+                p.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "title_info" -> offer(p, values, priorities, TITLE, 0);
+                case "titleInfo" -> offer(p, values, priorities, TITLE, 1);
+                case "title" -> offer(p, values, priorities, TITLE, 2);
+                case "TITLE" -> offer(p, values, priorities, TITLE, 3);
+                case "pubInfo" -> offer(p, values, priorities, PUBLISHER, 0);
+                case "isbn" -> offer(p, values, priorities, ISBN, 0);
+                case "ISBN" -> offer(p, values, priorities, ISBN, 1);
+                case "author_info" -> offer(p, values, priorities, AUTHOR, 0);
+                case "authorInfo" -> offer(p, values, priorities, AUTHOR, 1);
+                case "author" -> offer(p, values, priorities, AUTHOR, 2);
+                case "AUTHOR" -> offer(p, values, priorities, AUTHOR, 3);
+                case "pub_year_info" -> offer(p, values, priorities, YEAR, 0);
+                case "pubYearInfo" -> offer(p, values, priorities, YEAR, 1);
+                case "pub_year" -> offer(p, values, priorities, YEAR, 2);
+                case "PUB_YEAR" -> offer(p, values, priorities, YEAR, 3);
+                case "image_url" -> offer(p, values, priorities, COVER, 0);
+                case "IMAGE_URL" -> offer(p, values, priorities, COVER, 1);
+                case "bookImageURL" -> offer(p, values, priorities, COVER, 2);
+                case "control_no" -> offer(p, values, priorities, ID, 0);
+                case "controlNo" -> offer(p, values, priorities, ID, 1);
+                case "id" -> offer(p, values, priorities, ID, 2);
+                default -> {
+                }
+            }
+        }
+
+        String title = stripHtml(values[TITLE]);
+        if (title.isEmpty()) {
+            return null;
+        }
+        String isbn = cleanIsbn(values[ISBN]);
+        return NlkBookDto.builder()
+                .id(!isbn.isEmpty() ? isbn : orEmpty(values[ID]))
+                .title(title)
+                .isbn(isbn)
+                .author(stripHtml(values[AUTHOR]))
+                .year(stripHtml(values[YEAR]))
+                .cover(orEmpty(values[COVER]))
+                .publisher(orEmpty(values[PUBLISHER]))
+                .build();
+    }
+
+    /**
+     * 비어 있지 않은 값이고 현재 값보다 우선순위가 높을 때만 저장
+     */
+    private void offer(JsonParser p, String[] values, int[] priorities, int slot, int priority) throws IOException {
+        if (priority >= priorities[slot]) {
+            return;
+        }
+        String text = p.getValueAsString();
+        if (text != null && !text.isBlank()) {
+            values[slot] = text;
+            priorities[slot] = priority;
+        }
+    }
+
+    static String stripHtml(String html) {
+        if (html == null || html.isBlank()) return "";
+        if (html.indexOf('<') < 0) return html.trim();
+        return HTML_TAG.matcher(html).replaceAll("").trim();
+    }
+
+    static String cleanIsbn(String rawIsbn) {
+        if (rawIsbn == null) return "";
+        return NON_ISBN_CHAR.matcher(rawIsbn).replaceAll("");
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static final class ItemsCandidate {
+        private int rank = Integer.MAX_VALUE;
+        private List<NlkBookDto> items;
+    }
+}
@@ -1,33 +1,85 @@
 package com.booktalk_be.domain.nlk.service;
 
-import com.booktalk_be.domain.nlk.responseDto.NlkBookDto;
 import com.booktalk_be.domain.nlk.responseDto.NlkSearchResponse;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.util.StringUtils;
 
 import java.net.URI;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
-
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 국립중앙도서관(NLK) 도서 검색
+ *
+ * 설계 근거:
+ * - 인기 검색어는 같은 (kwd, pageNum, pageSize) 요청이 반복되므로 응답을 TTL 동안 캐시
+ * - 검색 결과가 없는 응답도 짧은 TTL로 캐시(negative caching)하여 오타 검색어 반복 호출 방지
+ * - 같은 키의 동시 cache miss는 먼저 들어온 요청 1건만 외부 API를 호출하고 나머지는 그 결과를 기다린다.
+ *   (진행 중인 CompletableFuture를 캐시에 먼저 넣는 single-flight 방식)
+ * - 호출 실패한 future는 Caffeine이 캐시에서 제거하므로 오류 응답은 캐시되지 않음
+ * - 외부 API에서 받은 도서는 BookCatalogService를 통해 로컬 카탈로그에 쌓이고,
+ *   localFirst 검색은 검색어별로 출처(카탈로그/NLK)를 한 번 정해 TTL 동안 모든 페이지에 같은 출처를 쓴다.
+ *   (페이지마다 출처가 바뀌면 정렬 기준이 달라 페이지 간 중복/누락이 생기고 total이 바뀜)
+ */
 @Service
-@RequiredArgsConstructor
 public class NlkSearchService {
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-
-    @Value("${nlk.api.key}")
-    private String apiKey;
+    private final NlkResponseDecoder responseDecoder;
+    private final BookCatalogService bookCatalogService;
+    private final String apiKey;
+    private final String baseUrl;
+    private final AsyncCache<SearchKey, NlkSearchResponse> cache;
+    // 검색어별 localFirst 출처 (true: 카탈로그)
+    private final Cache<String, Boolean> localSource;
+
+    public NlkSearchService(RestTemplate restTemplate,
+                            ObjectMapper objectMapper,
+                            BookCatalogService bookCatalogService,
+                            @Value("${nlk.api.key}") String apiKey,
+                            @Value("${nlk.api.base-url}") String baseUrl,
+                            @Value("${app.nlk.cache.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${app.nlk.cache.negative-ttl-seconds:60}") long negativeTtlSeconds,
+                            @Value("${app.nlk.cache.maximum-size:2000}") long maximumSize) {
+        this.restTemplate = restTemplate;
+        this.responseDecoder = new NlkResponseDecoder(objectMapper.getFactory());
+        this.bookCatalogService = bookCatalogService;
+        this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ResultExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(negativeTtlSeconds)))
+                .buildAsync();
+        this.localSource = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
 
-    @Value("${nlk.api.base-url}")
-    private String baseUrl;
+    /**
+     * 캐시 키: 검색어는 앞뒤 공백만 제거하여 사용
+     */
+    private record SearchKey(String kwd, int pageNum, int pageSize) {}
 
     public NlkSearchResponse search(String kwd, int pageNum, int pageSize) {
+        return search(kwd, pageNum, pageSize, false);
+    }
+
+    /**
+     * @param localFirst true면 카탈로그가 검색어의 결과 전체를 덮을 때 NLK를 호출하지 않음
+     */
+    public NlkSearchResponse search(String kwd, int pageNum, int pageSize, boolean localFirst) {
         if (!StringUtils.hasText(kwd)) {
             return NlkSearchResponse.builder()
                     .total(0)
@@ -37,6 +89,40 @@ public class NlkSearchService {
                     .build();
         }
 
+        String trimmed = kwd.trim();
+        if (localFirst && localSource.get(trimmed, bookCatalogService::coversKeyword)) {
+            Optional<NlkSearchResponse> local = bookCatalogService.searchLocal(trimmed, pageNum, pageSize);
+            if (local.isPresent()) {
+                return local.get();
+            }
+            // 카탈로그 조회 실패 시 이후 페이지도 NLK로 응답
+            localSource.put(trimmed, false);
+        }
+
+        SearchKey key = new SearchKey(trimmed, pageNum, pageSize);
+        CompletableFuture<NlkSearchResponse> pending = new CompletableFuture<>();
+        CompletableFuture<NlkSearchResponse> existing = cache.asMap().putIfAbsent(key, pending);
+        if (existing == null) {
+            // 이 요청이 대표로 외부 API 호출
+            try {
+                pending.complete(fetch(key.kwd(), pageNum, pageSize));
+            } catch (Throwable t) {
+                pending.completeExceptionally(t);
+            }
+            existing = pending;
+        }
+
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    private NlkSearchResponse fetch(String kwd, int pageNum, int pageSize) {
         URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
                 .queryParam("key", apiKey)
                 .queryParam("apiType", "json")
@@ -49,9 +135,10 @@ public class NlkSearchService {
                 .toUri();
 
         try {
-            // ★ text/json 때문에 JsonNode로 직접 못 받으니, 먼저 String으로 받는다
-            String body = restTemplate.getForObject(uri, String.class);
-            if (!StringUtils.hasText(body)) {
+            // text/json 응답이라 메시지 컨버터를 거치지 않고 본문 스트림을 바로 디코딩
+            NlkSearchResponse response = restTemplate.execute(uri, HttpMethod.GET, null,
+                    res -> responseDecoder.decode(res.getBody(), pageNum, pageSize));
+            if (response == null) {
                 return NlkSearchResponse.builder()
                         .total(0)
                         .pageNum(pageNum)
@@ -59,91 +146,40 @@ public class NlkSearchService {
                         .items(List.of())
                         .build();
             }
-
-            JsonNode root = objectMapper.readTree(body);
-
-            int total = root.path("result").path("total").asInt(
-                    root.path("total").asInt(0)
-            );
-
-            JsonNode itemsNode = findItemsNode(root);
-
-            List<NlkBookDto> items = new ArrayList<>();
-            if (itemsNode != null && itemsNode.isArray()) {
-                for (JsonNode it : itemsNode) {
-                    String rawTitle = firstNonEmpty(it,
-                            "title_info", "titleInfo", "title", "TITLE");
-                    String title = stripHtml(rawTitle);
-                    String publisher = firstNonEmpty(it, "pubInfo");
-                    String rawIsbn = firstNonEmpty(it, "isbn", "ISBN");
-                    String isbn = rawIsbn == null ? "" : rawIsbn.replaceAll("[^0-9Xx]", "");
-
-                    String author = stripHtml(firstNonEmpty(it,
-                            "author_info", "authorInfo", "author", "AUTHOR"));
-
-                    String year = stripHtml(firstNonEmpty(it,
-                            "pub_year_info", "pubYearInfo", "pub_year", "PUB_YEAR"));
-
-                    String cover = firstNonEmpty(it, "image_url", "IMAGE_URL", "bookImageURL");
-
-                    String id = !isbn.isEmpty()
-                            ? isbn
-                            : firstNonEmpty(it, "control_no", "controlNo", "id");
-
-                    if (!StringUtils.hasText(title)) {
-                        continue;
-                    }
-
-                    items.add(NlkBookDto.builder()
-                            .id(id)
-                            .title(title)
-                            .isbn(isbn)
-                            .author(author)
-                            .year(year)
-                            .cover(cover)
-                            .publisher(publisher)
-                            .build());
-                }
-            }
-
-            return NlkSearchResponse.builder()
-                    .total(total)
-                    .pageNum(pageNum)
-                    .pageSize(pageSize)
-                    .items(items)
-                    .build();
-
+            bookCatalogService.offer(response.getItems());
+            bookCatalogService.recordTotal(kwd, response.getTotal());
+            return response;
         } catch (Exception e) {
             // 필요하면 로깅 추가
             throw new RuntimeException("NLK 검색 호출 실패", e);
         }
     }
 
-    private JsonNode findItemsNode(JsonNode root) {
-        JsonNode result = root.path("result");
-        if (result.isArray()) return result;
-        if (result.path("items").isArray()) return result.path("items");
+    /**
+     * 검색 결과가 있으면 ttl, 없으면 negativeTtl 동안 유지
+     */
+    private static final class ResultExpiry implements Expiry<SearchKey, NlkSearchResponse> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
 
-        if (root.path("items").isArray()) return root.path("items");
-        if (root.path("docs").isArray()) return root.path("docs");
-        if (root.path("channel").path("item").isArray()) return root.path("channel").path("item");
+        private ResultExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
 
-        return null;
-    }
+        @Override
+        public long expireAfterCreate(SearchKey key, NlkSearchResponse value, long currentTime) {
+            return value.getItems() == null || value.getItems().isEmpty() ? negativeTtlNanos : ttlNanos;
+        }
 
-    private String firstNonEmpty(JsonNode node, String... names) {
-        for (String name : names) {
-            JsonNode v = node.get(name);
-            if (v != null && !v.isNull()) {
-                String s = v.asText();
-                if (StringUtils.hasText(s)) return s;
-            }
+        @Override
+        public long expireAfterUpdate(SearchKey key, NlkSearchResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
         }
-        return "";
-    }
 
-    private String stripHtml(String html) {
-        if (!StringUtils.hasText(html)) return "";
-        return html.replaceAll("<[^>]*>", "").trim();
+        @Override
+        public long expireAfterRead(SearchKey key, NlkSearchResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
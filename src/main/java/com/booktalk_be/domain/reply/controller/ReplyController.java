@@ -1,20 +1,24 @@
 package com.booktalk_be.domain.reply.controller;
 
 import com.booktalk_be.common.command.ReplySearchCondCommand;
+import com.booktalk_be.common.responseDto.CursorResponseDto;
 import com.booktalk_be.common.responseDto.PageResponseDto;
 import com.booktalk_be.common.utils.ResponseDto;
 import com.booktalk_be.domain.gathering.command.mypage.GatheringReplySearchCondCommand;
 import com.booktalk_be.domain.gathering.responseDto.mypage.MyPageGatheringReplyResponse;
-import com.booktalk_be.domain.member.model.entity.Member;
+import com.booktalk_be.domain.member.service.MemberService;
 import com.booktalk_be.domain.reply.command.CreateReplyCommand;
 import com.booktalk_be.domain.reply.command.UpdateReplyCommand;
 import com.booktalk_be.common.command.RestrictCommand;
 import com.booktalk_be.domain.reply.responseDto.ReplyResponse;
 import com.booktalk_be.domain.reply.responseDto.ReplySimpleResponse;
 import com.booktalk_be.domain.reply.service.ReplyService;
+import com.booktalk_be.springconfig.auth.user.AuthMember;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -31,6 +35,7 @@ import java.util.List;
 @Slf4j
 public class ReplyController {
     private final ReplyService replyService;
+    private final MemberService memberService;
 
     @GetMapping("/list/{postCode}")
     @Tag(name = "Reply API")
@@ -39,10 +44,10 @@ public class ReplyController {
             @PathVariable String postCode,
             Authentication authentication) {
         Integer memberId = null;
-        if (authentication != null && authentication.getPrincipal() instanceof Member) {
-            memberId = ((Member) authentication.getPrincipal()).getMemberId();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthMember) {
+            memberId = ((AuthMember) authentication.getPrincipal()).getMemberId();
         }
-        List<ReplyResponse> res = replyService.getRepliesByPostCode(postCode, memberId);
+        List<ReplyResponse> res = replyService.getReplyTreeByPostCode(postCode, memberId);
         return ResponseEntity.ok(ResponseDto.builder()
                 .data(res)
                 .code(200)
@@ -58,8 +63,8 @@ public class ReplyController {
             @RequestParam(defaultValue = "10") Integer pageSize,
             Authentication authentication) {
         Integer memberId = null;
-        if (authentication != null && authentication.getPrincipal() instanceof Member) {
-            memberId = ((Member) authentication.getPrincipal()).getMemberId();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthMember) {
+            memberId = ((AuthMember) authentication.getPrincipal()).getMemberId();
         }
         PageResponseDto<ReplyResponse> page = replyService.getRepliesByPostCodePaginated(postCode, pageNum, pageSize, memberId);
         return ResponseEntity.ok(ResponseDto.builder()
@@ -68,6 +73,25 @@ public class ReplyController {
                 .build());
     }
 
+    @GetMapping("/list/{postCode}/cursor")
+    @Tag(name = "Reply API")
+    @Operation(summary = "게시판 댓글 목록 커서 조회", description = "마지막으로 조회한 댓글(cursor) 이후의 댓글 목록을 조회합니다. (무한 스크롤용, 전체 댓글 수는 첫 페이지에서만 반환)")
+    public ResponseEntity<ResponseDto> getListByCursor(
+            @PathVariable String postCode,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "pageSize", required = false, defaultValue = "10") @Min(1) @Max(100) Integer pageSize,
+            Authentication authentication) {
+        Integer memberId = null;
+        if (authentication != null && authentication.getPrincipal() instanceof AuthMember) {
+            memberId = ((AuthMember) authentication.getPrincipal()).getMemberId();
+        }
+        CursorResponseDto<ReplyResponse> page = replyService.getRepliesByPostCodeCursor(postCode, cursor, pageSize, memberId);
+        return ResponseEntity.ok(ResponseDto.builder()
+                .code(200)
+                .data(page)
+                .build());
+    }
+
     @PostMapping("/create")
     @Tag(name = "Reply API")
     @Operation(summary = "게시판 댓글 등록", description = "새로운 댓글을 등록합니다.")
@@ -75,9 +99,9 @@ public class ReplyController {
             @RequestBody @Valid CreateReplyCommand cmd,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         try{
-            replyService.createReply(cmd, member);
+            replyService.createReply(cmd, memberService.getMemberReference(member.getMemberId()));
         }catch (Exception e){
             log.error(e.fillInStackTrace().toString());
             return new ResponseEntity<>(ResponseDto.builder()
@@ -95,7 +119,7 @@ public class ReplyController {
     @Operation(summary = "게시판 댓글 수정", description = "댓글 상세 정보를 수정합니다.")
     public ResponseEntity<ResponseDto> modify(@RequestBody @Valid UpdateReplyCommand cmd,
                                                Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         replyService.modifyReply(cmd, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -117,7 +141,7 @@ public class ReplyController {
     @Operation(summary = "게시판 댓글 삭제", description = "댓글을 삭제합니다.")
     public ResponseEntity<ResponseDto> delete(@PathVariable String replyCode,
                                                Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         replyService.deleteReply(replyCode, member.getMemberId());
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -131,7 +155,7 @@ public class ReplyController {
             @RequestParam(value = "pageNum", required = true) Integer pageNum,
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<ReplySimpleResponse> page =  replyService.getAllRepliesForPagingByMe(pageNum, pageSize, member.getMemberId(), "BO_");
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -147,7 +171,7 @@ public class ReplyController {
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             @RequestBody @Valid ReplySearchCondCommand cmd,
             Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<ReplySimpleResponse> page =  replyService.searchAllRepliesForPagingByMe(cmd, pageNum, pageSize, member.getMemberId(), "BO_");
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -162,7 +186,7 @@ public class ReplyController {
             @RequestParam(value = "pageNum", required = true) Integer pageNum,
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<ReplySimpleResponse> page =  replyService.getAllRepliesForPagingByMe(pageNum, pageSize, member.getMemberId(), "BR_");
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -178,7 +202,7 @@ public class ReplyController {
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             @RequestBody @Valid ReplySearchCondCommand cmd,
             Authentication authentication) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<ReplySimpleResponse> page =  replyService.searchAllRepliesForPagingByMe(cmd, pageNum, pageSize, member.getMemberId(), "BR_");
         return ResponseEntity.ok(ResponseDto.builder()
                 .code(200)
@@ -246,7 +270,7 @@ public class ReplyController {
             @RequestParam(value = "pageSize", required = false, defaultValue = "10") Integer pageSize,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<MyPageGatheringReplyResponse> page =
                 replyService.getMyGatheringReplies(pageNum, pageSize, member.getMemberId());
 
@@ -264,7 +288,7 @@ public class ReplyController {
             @RequestBody GatheringReplySearchCondCommand cmd,
             Authentication authentication
     ) {
-        Member member = (Member) authentication.getPrincipal();
+        AuthMember member = (AuthMember) authentication.getPrincipal();
         PageResponseDto<MyPageGatheringReplyResponse> page =
                 replyService.searchMyGatheringReplies(cmd, pageNum, pageSize, member.getMemberId());
 
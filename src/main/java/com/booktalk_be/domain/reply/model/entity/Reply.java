@@ -41,6 +41,43 @@ public class Reply extends CommonEntity {
         if(this.likesCnt == null) {
             this.likesCnt = 0;
         }
+        if(this.path == null) {
+            this.path = buildPath();
+        }
+    }
+
+    /**
+     * path 세그먼트 길이: reply_code 숫자부를 19자리(long 최대 자릿수)로 0 채움 + '/'
+     * 고정 폭이므로 path 길이 = 깊이 × 20 이고, ascii_bin 문자열 순서가 숫자(생성 시각) 순서와 같다.
+     */
+    public static final int PATH_SEGMENT_LENGTH = 20;
+    private static final int PATH_SEGMENT_DIGITS = PATH_SEGMENT_LENGTH - 1;
+    private static final int PATH_MAX_LENGTH = 500;
+    public static final int MAX_DEPTH = PATH_MAX_LENGTH / PATH_SEGMENT_LENGTH;
+
+    // 예: REP_123 → 0000000000000000123/
+    public static String pathSegment(String replyCode) {
+        String id = replyCode.substring(replyCode.lastIndexOf('_') + 1);
+        if (id.length() > PATH_SEGMENT_DIGITS) {
+            throw new IllegalStateException("reply_code too long for path segment: " + replyCode);
+        }
+        return "0".repeat(PATH_SEGMENT_DIGITS - id.length()) + id + "/";
+    }
+
+    // 루트부터 자신까지의 세그먼트 경로 (루트 = 깊이 1)
+    public int getDepth() {
+        return this.path == null ? 1 : this.path.length() / PATH_SEGMENT_LENGTH;
+    }
+
+    private String buildPath() {
+        if (this.parentReplyCode == null) {
+            return pathSegment(this.replyCode);
+        }
+        String parentPath = this.parentReplyCode.getPath();
+        if (parentPath == null) {
+            parentPath = pathSegment(this.parentReplyCode.getReplyCode());
+        }
+        return parentPath + pathSegment(this.replyCode);
     }
 
     @Id
@@ -58,6 +95,9 @@ public class Reply extends CommonEntity {
     @JoinColumn(name = "parent_reply_code", nullable = true)
     private Reply parentReplyCode;
 
+    @Column(name = "path", length = PATH_MAX_LENGTH)
+    private String path;
+
     @Column(name = "content", nullable = false)
     private String content;
 
@@ -3,6 +3,7 @@ package com.booktalk_be.domain.reply.model.repository;
 import com.booktalk_be.domain.reply.model.entity.Reply;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,6 +17,13 @@ public interface ReplyRepository extends JpaRepository<Reply, String>, ReplyRepo
      */
     long countByPostCodeAndDelYnFalse(String postCode);
 
+    /**
+     * 댓글 좋아요 수 증감 (단일 UPDATE)
+     */
+    @Modifying
+    @Query(value = "UPDATE reply SET like_cnt = GREATEST(COALESCE(like_cnt, 0) + :delta, 0) WHERE reply_code = :code", nativeQuery = true)
+    int addLikeCount(@Param("code") String code, @Param("delta") int delta);
+
 
     @Query(value = "CALL sp_mypage_gathering_reply_list(:memberId, :pageNum, :pageSize)", nativeQuery = true)
     List<Object[]> callMyGatheringReplyList(
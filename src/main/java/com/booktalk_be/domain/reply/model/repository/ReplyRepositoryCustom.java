@@ -3,25 +3,48 @@ package com.booktalk_be.domain.reply.model.repository;
 import com.booktalk_be.common.command.ReplySearchCondCommand;
 import com.booktalk_be.domain.reply.model.entity.Reply;
 import com.booktalk_be.domain.reply.responseDto.ReplySimpleResponse;
+import com.booktalk_be.domain.reply.responseDto.ReplyTreeRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.OptionalLong;
 
 public interface ReplyRepositoryCustom {
-    List<Reply> getRepliesByPostCode(String postCode);
+    /**
+     * Get all replies of a post as flat rows with author and like flag in a single query
+     */
+    List<ReplyTreeRow> getReplyTreeRowsByPostCode(String postCode, Integer memberId);
     Page<ReplySimpleResponse> getAllRepliesForPaging(Pageable pageable, String postCodePrefix);
     Page<ReplySimpleResponse> getAllRepliesForPagingByMe(Pageable pageable, int memberId, String postCodePrefix);
     Page<ReplySimpleResponse> searchAllRepliesForPagingByMe(ReplySearchCondCommand cmd, Pageable pageable, int memberId, String postCodePrefix);
     Page<ReplySimpleResponse> searchAllRepliesForPaging(ReplySearchCondCommand cmd, Pageable pageable, String postCodePrefix);
 
+    /**
+     * Admin list content and total count queried separately so the count can be cached on its own
+     */
+    List<ReplySimpleResponse> findAllRepliesContent(Pageable pageable, String postCodePrefix);
+    long countAllReplies(String postCodePrefix);
+    List<ReplySimpleResponse> searchAllRepliesContent(ReplySearchCondCommand cmd, Pageable pageable, String postCodePrefix);
+    long countSearchAllReplies(ReplySearchCondCommand cmd, String postCodePrefix);
+    // 총 개수 근사 조회 (CountStrategy.CAPPED / ESTIMATED)
+    long countSearchAllRepliesUpTo(ReplySearchCondCommand cmd, String postCodePrefix, long limit);
+    OptionalLong estimateSearchAllReplies(ReplySearchCondCommand cmd, String postCodePrefix);
+
     /**
      * Get paginated root replies (replies without parent) for a post
      */
     Page<Reply> getRootRepliesByPostCode(String postCode, Pageable pageable);
 
     /**
-     * Get child replies for multiple parent reply codes (batch load)
+     * Get root replies after the (regTime, replyCode) cursor in ascending order
+     * Uses idx_reply_postcode_del_regtime; pass null cursor values for the first page
+     */
+    List<Reply> getRootRepliesByCursor(String postCode, LocalDateTime cursorRegTime, String cursorReplyCode, int limit);
+
+    /**
+     * Get all descendants of the given root replies in path order (single range query)
      */
-    List<Reply> getChildRepliesByParentCodes(List<String> parentCodes);
+    List<Reply> getSubtreesByRootCodes(String postCode, List<String> rootCodes);
 }
@@ -1,11 +1,14 @@
 package com.booktalk_be.domain.reply.model.repository.querydsl;
 
 import com.booktalk_be.common.command.ReplySearchCondCommand;
+import com.booktalk_be.common.service.RowCountEstimator;
 import com.booktalk_be.common.utils.Querydsl4RepositorySupport;
 import com.booktalk_be.domain.reply.model.entity.Reply;
 import com.booktalk_be.domain.reply.model.repository.ReplyRepositoryCustom;
 import com.booktalk_be.domain.reply.responseDto.ReplySimpleResponse;
+import com.booktalk_be.domain.reply.responseDto.ReplyTreeRow;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
@@ -18,20 +21,38 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
+import static com.booktalk_be.domain.likes.model.repository.querydsl.LikesExpressions.likedByMember;
 import static com.booktalk_be.domain.reply.model.entity.QReply.reply;
 
 public class ReplyRepositoryCustomImpl extends Querydsl4RepositorySupport implements ReplyRepositoryCustom {
-    protected ReplyRepositoryCustomImpl(JPAQueryFactory queryFactory) {super(queryFactory);}
+    private final RowCountEstimator rowCountEstimator;
+
+    protected ReplyRepositoryCustomImpl(JPAQueryFactory queryFactory, RowCountEstimator rowCountEstimator) {
+        super(queryFactory);
+        this.rowCountEstimator = rowCountEstimator;
+    }
 
     @Override
-    public List<Reply> getRepliesByPostCode(String postCode) {
-        return selectFrom(reply)
-                .leftJoin(reply.member).fetchJoin()
-                .leftJoin(reply.parentReplyCode).fetchJoin()
+    public List<ReplyTreeRow> getReplyTreeRowsByPostCode(String postCode, Integer memberId) {
+        return select(Projections.fields(ReplyTreeRow.class,
+                reply.replyCode,
+                reply.parentReplyCode.replyCode.as("parentReplyCode"),
+                reply.member.memberId.as("memberId"),
+                reply.member.name.as("memberName"),
+                reply.postCode,
+                reply.content,
+                Expressions.stringTemplate("DATE_FORMAT({0}, '%Y-%m-%d')", reply.regTime).as("regDate"),
+                Expressions.stringTemplate("DATE_FORMAT({0}, '%Y-%m-%d')", reply.updateTime).as("updateDate"),
+                reply.likesCnt,
+                ExpressionUtils.as(likedByMember(reply.replyCode, memberId), "isLiked")))
+                .from(reply).leftJoin(reply.member)
                 .where(reply.postCode.eq(postCode))
                 .where(reply.delYn.eq(false))
                 .orderBy(reply.regTime.asc())
@@ -40,7 +61,12 @@ public class ReplyRepositoryCustomImpl extends Querydsl4RepositorySupport implem
 
     @Override
     public Page<ReplySimpleResponse> getAllRepliesForPaging(Pageable pageable, String postCodePrefix) {
-        List<ReplySimpleResponse> content = select(Projections.fields(ReplySimpleResponse.class,
+        return new PageImpl<>(findAllRepliesContent(pageable, postCodePrefix), pageable, countAllReplies(postCodePrefix));
+    }
+
+    @Override
+    public List<ReplySimpleResponse> findAllRepliesContent(Pageable pageable, String postCodePrefix) {
+        return select(Projections.fields(ReplySimpleResponse.class,
                 reply.replyCode,
                 reply.postCode,
                 reply.member.memberId,
@@ -55,13 +81,16 @@ public class ReplyRepositoryCustomImpl extends Querydsl4RepositorySupport implem
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
-        Long total = Optional.ofNullable(
+    }
+
+    @Override
+    public long countAllReplies(String postCodePrefix) {
+        return Optional.ofNullable(
                 select(Wildcard.count)
                 .from(reply)
                 .where(postCodePrefixFilter(postCodePrefix))
                 .fetchOne())
                 .orElse(0L);
-        return new PageImpl<>(content, pageable, total);
     }
 
     @Override
@@ -134,8 +163,13 @@ public class ReplyRepositoryCustomImpl extends Querydsl4RepositorySupport implem
 
     @Override
     public Page<ReplySimpleResponse> searchAllRepliesForPaging(ReplySearchCondCommand cmd, Pageable pageable, String postCodePrefix) {
-        JPAQueryBase<ReplySimpleResponse, JPAQuery<ReplySimpleResponse>> baseQuery =
-                select(Projections.fields(ReplySimpleResponse.class,
+        return new PageImpl<>(searchAllRepliesContent(cmd, pageable, postCodePrefix), pageable,
+                countSearchAllReplies(cmd, postCodePrefix));
+    }
+
+    @Override
+    public List<ReplySimpleResponse> searchAllRepliesContent(ReplySearchCondCommand cmd, Pageable pageable, String postCodePrefix) {
+        return select(Projections.fields(ReplySimpleResponse.class,
                         reply.replyCode,
                         reply.postCode,
                         reply.member.memberId,
@@ -143,33 +177,65 @@ public class ReplyRepositoryCustomImpl extends Querydsl4RepositorySupport implem
                         reply.content,
                         reply.delYn,
                         reply.delReason.as("deleteReason")))
-                        .from(reply).leftJoin(reply.member)
-                        .where(postCodePrefixFilter(postCodePrefix));
-
-        JPAQuery<Long> pageQuery = select(Wildcard.count)
-                .from(reply)
-                .where(postCodePrefixFilter(postCodePrefix));
-
-        BooleanBuilder searchCondition = new BooleanBuilder()
-                .and(keywordFilter(cmd.getType(), cmd.getKeyword()))
-                .and(dateFilter(cmd.getStartDate(), cmd.getEndDate()));
-
-        List<ReplySimpleResponse> content =
-                baseQuery
-                .where(searchCondition)
+                .from(reply).leftJoin(reply.member)
+                .where(postCodePrefixFilter(postCodePrefix))
+                .where(adminSearchCondition(cmd))
                 .orderBy(reply.replyCode.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+    }
 
-        Long total = Optional.ofNullable(
-                pageQuery
-                .where(searchCondition)
+    @Override
+    public long countSearchAllReplies(ReplySearchCondCommand cmd, String postCodePrefix) {
+        return Optional.ofNullable(
+                select(Wildcard.count)
+                .from(reply)
+                .where(postCodePrefixFilter(postCodePrefix))
+                .where(adminSearchCondition(cmd))
                 .fetchOne()
         ).orElse(0L);
-        return new PageImpl<>(content, pageable, total);
     }
 
+    @Override
+    public long countSearchAllRepliesUpTo(ReplySearchCondCommand cmd, String postCodePrefix, long limit) {
+        return select(reply.replyCode)
+                .from(reply)
+                .where(postCodePrefixFilter(postCodePrefix))
+                .where(adminSearchCondition(cmd))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    @Override
+    public OptionalLong estimateSearchAllReplies(ReplySearchCondCommand cmd, String postCodePrefix) {
+        if (cmd.getKeyword() != null && !cmd.getKeyword().isEmpty()) {
+            return OptionalLong.empty();
+        }
+        StringBuilder sql = new StringBuilder("SELECT 1 FROM reply WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (postCodePrefix != null && !postCodePrefix.isEmpty()) {
+            // 'BO_'의 '_'는 LIKE 와일드카드이므로 이스케이프 (idx_reply_postcode_replycode range 추정)
+            sql.append(" AND post_code LIKE ?");
+            args.add(postCodePrefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        if (cmd.getStartDate() != null) {
+            sql.append(" AND reg_time >= ?");
+            args.add(cmd.getStartDate().atStartOfDay());
+        }
+        if (cmd.getEndDate() != null) {
+            sql.append(" AND reg_time <= ?");
+            args.add(cmd.getEndDate().atTime(LocalTime.MAX));
+        }
+        return rowCountEstimator.estimate(sql.toString(), args.toArray());
+    }
+
+    private BooleanBuilder adminSearchCondition(ReplySearchCondCommand cmd) {
+        return new BooleanBuilder()
+                .and(keywordFilter(cmd.getType(), cmd.getKeyword()))
+                .and(dateFilter(cmd.getStartDate(), cmd.getEndDate()));
+    }
 
     private BooleanExpression keywordFilter(ReplySearchCondCommand.KeywordType type, String keyword) {
         if (keyword == null || keyword.isEmpty()) {
@@ -232,16 +298,37 @@ public class ReplyRepositoryCustomImpl extends Querydsl4RepositorySupport implem
     }
 
     @Override
-    public List<Reply> getChildRepliesByParentCodes(List<String> parentCodes) {
-        if (parentCodes == null || parentCodes.isEmpty()) {
+    public List<Reply> getRootRepliesByCursor(String postCode, LocalDateTime cursorRegTime, String cursorReplyCode, int limit) {
+        // (post_code, del_yn, reg_time) 인덱스 뒤에 PK(reply_code)가 붙으므로 (reg_time, reply_code) 순서로 이어서 스캔
+        BooleanExpression afterCursor = cursorRegTime == null ? null
+                : reply.regTime.gt(cursorRegTime)
+                    .or(reply.regTime.eq(cursorRegTime).and(reply.replyCode.gt(cursorReplyCode)));
+        return selectFrom(reply)
+                .leftJoin(reply.member).fetchJoin()
+                .where(reply.postCode.eq(postCode))
+                .where(reply.delYn.eq(false))
+                .where(afterCursor)
+                .where(reply.parentReplyCode.isNull())
+                .orderBy(reply.regTime.asc(), reply.replyCode.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Reply> getSubtreesByRootCodes(String postCode, List<String> rootCodes) {
+        if (rootCodes == null || rootCodes.isEmpty()) {
             return List.of();
         }
+        // 루트별 path prefix 범위를 OR로 묶어 (post_code, path) 인덱스 range scan
+        BooleanBuilder subtree = new BooleanBuilder();
+        rootCodes.forEach(code -> subtree.or(reply.path.startsWith(Reply.pathSegment(code))));
         return selectFrom(reply)
                 .leftJoin(reply.member).fetchJoin()
-                .leftJoin(reply.parentReplyCode).fetchJoin()
-                .where(reply.parentReplyCode.replyCode.in(parentCodes))
+                .where(reply.postCode.eq(postCode))
+                .where(subtree)
+                .where(reply.parentReplyCode.isNotNull())
                 .where(reply.delYn.eq(false))
-                .orderBy(reply.regTime.asc())
+                .orderBy(reply.path.asc())
                 .fetch();
     }
 }
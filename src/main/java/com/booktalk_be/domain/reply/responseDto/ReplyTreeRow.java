@@ -0,0 +1,25 @@
+package com.booktalk_be.domain.reply.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 트리 조립용 평면 projection
+ * 작성자 정보와 로그인 사용자의 좋아요 여부를 한 번의 쿼리로 함께 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplyTreeRow {
+    private String replyCode;
+    private String parentReplyCode;
+    private Integer memberId;
+    private String memberName;
+    private String postCode;
+    private String content;
+    private String regDate;
+    private String updateDate;
+    private Integer likesCnt;
+    private Boolean isLiked;
+}
@@ -2,6 +2,7 @@ package com.booktalk_be.domain.reply.service;
 
 import com.booktalk_be.common.command.ReplySearchCondCommand;
 import com.booktalk_be.common.command.RestrictCommand;
+import com.booktalk_be.common.responseDto.CursorResponseDto;
 import com.booktalk_be.common.responseDto.PageResponseDto;
 import com.booktalk_be.domain.gathering.command.mypage.GatheringReplySearchCondCommand;
 import com.booktalk_be.domain.gathering.responseDto.mypage.MyPageGatheringReplyResponse;
@@ -17,7 +18,12 @@ public interface ReplyService {
     public void createReply(CreateReplyCommand cmd, Member member);
     public void modifyReply(UpdateReplyCommand cmd, int memberId);
     public void deleteReply(String replyCode, int memberId);
-    public List<ReplyResponse> getRepliesByPostCode(String postCode, Integer memberId);
+
+    /**
+     * Get replies by post code with nested tree structure using a single projection query
+     * (author and like flag included), so the statement count does not grow with the reply count
+     */
+    public List<ReplyResponse> getReplyTreeByPostCode(String postCode, Integer memberId);
     public PageResponseDto<ReplySimpleResponse> getAllRepliesForPaging(int pageNum, int pageSize, String postCodePrefix);
     public void restrictReply(RestrictCommand cmd);
     public void recoverReply(String replyCode);
@@ -34,4 +40,10 @@ public interface ReplyService {
      */
     PageResponseDto<ReplyResponse> getRepliesByPostCodePaginated(String postCode, Integer pageNum, Integer pageSize, Integer memberId);
 
+    /**
+     * Get replies by post code with nested tree structure using a (regTime, replyCode) cursor
+     * Total reply count is included only on the first page (cursor == null)
+     */
+    CursorResponseDto<ReplyResponse> getRepliesByPostCodeCursor(String postCode, String cursor, Integer pageSize, Integer memberId);
+
 }
@@ -2,7 +2,10 @@ package com.booktalk_be.domain.reply.service;
 
 import com.booktalk_be.common.command.ReplySearchCondCommand;
 import com.booktalk_be.common.command.RestrictCommand;
+import com.booktalk_be.common.responseDto.CursorResponseDto;
 import com.booktalk_be.common.responseDto.PageResponseDto;
+import com.booktalk_be.common.responseDto.TotalCount;
+import com.booktalk_be.common.service.AdminListCache;
 import com.booktalk_be.domain.gathering.command.mypage.GatheringReplySearchCondCommand;
 import com.booktalk_be.domain.gathering.responseDto.mypage.MyPageGatheringReplyResponse;
 import com.booktalk_be.domain.member.model.entity.Member;
@@ -12,33 +15,43 @@ import com.booktalk_be.domain.reply.model.entity.Reply;
 import com.booktalk_be.domain.reply.model.repository.ReplyRepository;
 import com.booktalk_be.domain.reply.responseDto.ReplyResponse;
 import com.booktalk_be.domain.reply.responseDto.ReplySimpleResponse;
+import com.booktalk_be.domain.reply.responseDto.ReplyTreeRow;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ReplyServiceImpl implements ReplyService {
+    // cursor = reg_time(ISO-8601) + '|' + reply_code
+    private static final String CURSOR_DELIMITER = "|";
+    private static final String ADMIN_CACHE = "replyAdminList";
+    // 관리자 댓글 목록 무효화 범위: 게시글 prefix별(reply:BO_ 등) + 전체(reply:*)
+    private static final String ADMIN_SCOPE_ALL = "reply:*";
+
     private final ReplyRepository replyRepository;
     private final com.booktalk_be.domain.likes.model.repository.LikesRepository likesRepository;
+    private final AdminListCache adminListCache;
 
     @Override
-    @CacheEvict(value = "replyAdminList", allEntries = true)
     public void createReply(CreateReplyCommand cmd, Member member) {
         Reply reply;
         if (cmd.getParentReplyCode() == null) {
@@ -50,6 +63,11 @@ public class ReplyServiceImpl implements ReplyService {
         }else {
             Reply pReply = replyRepository.findById(cmd.getParentReplyCode())
                     .orElseThrow(EntityNotFoundException::new);
+            // path 컬럼 길이 한도 (세그먼트 고정 폭 × MAX_DEPTH)
+            if (pReply.getDepth() >= Reply.MAX_DEPTH) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "댓글은 최대 " + Reply.MAX_DEPTH + "단계까지 작성할 수 있습니다.");
+            }
             reply = Reply.builder()
                     .postCode(cmd.getPostCode())
                     .content(cmd.getContent())
@@ -58,6 +76,7 @@ public class ReplyServiceImpl implements ReplyService {
                     .build();
         }
         replyRepository.save(reply);
+        adminListCache.onCreated(adminScopes(cmd.getPostCode()));
     }
 
     @Override
@@ -68,10 +87,10 @@ public class ReplyServiceImpl implements ReplyService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "수정 권한이 없습니다.");
         }
         reply.modify(cmd);
+        adminListCache.onModified(adminScopes(reply.getPostCode()));
     }
 
     @Override
-    @CacheEvict(value = "replyAdminList", allEntries = true)
     public void deleteReply(String replyCode, int memberId) {
         Reply reply = replyRepository.findById(replyCode)
                 .orElseThrow(EntityNotFoundException::new);
@@ -79,70 +98,65 @@ public class ReplyServiceImpl implements ReplyService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "삭제 권한이 없습니다.");
         }
         reply.delete();
+        adminListCache.onModified(adminScopes(reply.getPostCode()));
     }
 
     @Override
-    public List<ReplyResponse> getRepliesByPostCode(String postCode, Integer memberId) {
-        List<Reply> replies = replyRepository.getRepliesByPostCode(postCode);
-        Map<String, ReplyResponse> nodeMap = replies.stream()
-                .collect(Collectors.toMap(
-                        Reply::getReplyCode,
-                        (entity) -> ReplyResponse.builder()
-                                .replyCode(entity.getReplyCode())
-                                .memberId(entity.getMember().getMemberId())
-                                .memberName(entity.getMember().getName())
-                                .postCode(entity.getPostCode())
-                                .content(entity.getContent())
-                                .regDate(entity.getRegTime().toLocalDate().toString())
-                                .updateDate(entity.getUpdateTime().toLocalDate().toString())
-                                .likesCnt(entity.getLikesCnt())
-                                .isLiked(memberId != null && likesRepository.existsByCodeAndMemberId(entity.getReplyCode(), memberId))
-                                .replies(new ArrayList<>())
-                                .build(),
-                        (a, b) -> a
-                ));
-        replies.forEach(reply -> {
-            Reply parent = reply.getParentReplyCode();
-            if (parent != null) {
-                ReplyResponse parentDto = nodeMap.get(parent.getReplyCode());
-                if (parentDto != null) {
-                    ReplyResponse childDto = nodeMap.get(reply.getReplyCode());
-                    parentDto.getReplies().add(childDto);
-                }
-            }
-        });
+    public List<ReplyResponse> getReplyTreeByPostCode(String postCode, Integer memberId) {
+        List<ReplyTreeRow> rows = replyRepository.getReplyTreeRowsByPostCode(postCode, memberId);
+        Map<String, ReplyResponse> nodeMap = new HashMap<>();
+        for (ReplyTreeRow row : rows) {
+            nodeMap.put(row.getReplyCode(), ReplyResponse.builder()
+                    .replyCode(row.getReplyCode())
+                    .memberId(row.getMemberId())
+                    .memberName(row.getMemberName())
+                    .postCode(row.getPostCode())
+                    .content(row.getContent())
+                    .regDate(row.getRegDate())
+                    .updateDate(row.getUpdateDate())
+                    .likesCnt(row.getLikesCnt())
+                    .isLiked(Boolean.TRUE.equals(row.getIsLiked()))
+                    .replies(new ArrayList<>())
+                    .build());
+        }
 
-        return replies.stream()
-                .filter(reply -> reply.getParentReplyCode() == null)
-                .map(reply -> nodeMap.get(reply.getReplyCode()))
-                .collect(Collectors.toList());
+        List<ReplyResponse> roots = new ArrayList<>();
+        for (ReplyTreeRow row : rows) {
+            ReplyResponse node = nodeMap.get(row.getReplyCode());
+            if (row.getParentReplyCode() == null) {
+                roots.add(node);
+                continue;
+            }
+            ReplyResponse parentDto = nodeMap.get(row.getParentReplyCode());
+            if (parentDto != null) {
+                parentDto.getReplies().add(node);
+            }
+        }
+        return roots;
     }
 
     @Override
-    @Cacheable(value = "replyAdminList", key = "'all:' + #pageNum + ':' + #pageSize + ':' + #postCodePrefix")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PageResponseDto<ReplySimpleResponse> getAllRepliesForPaging(int pageNum, int pageSize, String postCodePrefix) {
-        Pageable pageable = PageRequest.of(pageNum-1, pageSize);
-        Page<ReplySimpleResponse> page = replyRepository.getAllRepliesForPaging(pageable, postCodePrefix);
-        return PageResponseDto.<ReplySimpleResponse>builder()
-                .content(page.getContent())
-                .totalPages(page.getTotalPages())
-                .build();
+        return adminListCache.getPage(ADMIN_CACHE, adminScope(postCodePrefix), "all", null, pageNum, pageSize,
+                pageable -> replyRepository.findAllRepliesContent(pageable, postCodePrefix),
+                () -> TotalCount.exact(replyRepository.countAllReplies(postCodePrefix)));
     }
 
     @Override
-    @CacheEvict(value = "replyAdminList", allEntries = true)
     public void restrictReply(RestrictCommand cmd) {
         Reply reply = replyRepository.findById(cmd.getTargetCode())
                 .orElseThrow(EntityNotFoundException::new);
         reply.delete(cmd.getDelReason());
+        adminListCache.onModerated(adminScopes(reply.getPostCode()));
     }
 
     @Override
-    @CacheEvict(value = "replyAdminList", allEntries = true)
     public void recoverReply(String replyCode) {
         Reply reply = replyRepository.findById(replyCode)
                 .orElseThrow(EntityNotFoundException::new);
         reply.recover();
+        adminListCache.onModerated(adminScopes(reply.getPostCode()));
     }
 
     @Override
@@ -166,14 +180,30 @@ public class ReplyServiceImpl implements ReplyService {
     }
 
     @Override
-    @Cacheable(value = "replyAdminList", key = "'search:' + #pageNum + ':' + #pageSize + ':' + #postCodePrefix + ':' + #cmd.keyword + ':' + #cmd.type + ':' + #cmd.startDate + ':' + #cmd.endDate")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PageResponseDto<ReplySimpleResponse> searchAllRepliesForPaging(ReplySearchCondCommand cmd, Integer pageNum, Integer pageSize, String postCodePrefix) {
-        Pageable pageable = PageRequest.of(pageNum-1, pageSize);
-        Page<ReplySimpleResponse> page = replyRepository.searchAllRepliesForPaging(cmd, pageable, postCodePrefix);
-        return PageResponseDto.<ReplySimpleResponse>builder()
-                .content(page.getContent())
-                .totalPages(page.getTotalPages())
-                .build();
+        String filter = "search:" + cmd.getKeyword() + ':' + cmd.getType()
+                + ':' + cmd.getStartDate() + ':' + cmd.getEndDate()
+                + ':' + cmd.getCountStrategy() + ':' + cmd.getCountCap();
+        return adminListCache.getPage(ADMIN_CACHE, adminScope(postCodePrefix), filter, cmd.getEndDate(), pageNum, pageSize,
+                pageable -> replyRepository.searchAllRepliesContent(cmd, pageable, postCodePrefix),
+                () -> TotalCount.resolve(cmd.getCountStrategy(), cmd.getCountCap(),
+                        () -> replyRepository.countSearchAllReplies(cmd, postCodePrefix),
+                        limit -> replyRepository.countSearchAllRepliesUpTo(cmd, postCodePrefix, limit),
+                        () -> replyRepository.estimateSearchAllReplies(cmd, postCodePrefix)));
+    }
+
+    private static String adminScope(String postCodePrefix) {
+        return postCodePrefix == null ? ADMIN_SCOPE_ALL : "reply:" + postCodePrefix;
+    }
+
+    // 댓글 쓰기는 해당 게시글 prefix 범위와 전체 범위에만 영향
+    private static String[] adminScopes(String postCode) {
+        int idx = postCode == null ? -1 : postCode.indexOf('_');
+        if (idx < 0) {
+            return new String[]{ADMIN_SCOPE_ALL};
+        }
+        return new String[]{ADMIN_SCOPE_ALL, adminScope(postCode.substring(0, idx + 1))};
     }
 
     @Override
@@ -215,77 +245,118 @@ public class ReplyServiceImpl implements ReplyService {
                     .build();
         }
 
-        // 2. Collect root reply codes for batch loading children
-        List<String> rootReplyCodes = rootReplies.stream()
-                .map(Reply::getReplyCode)
-                .toList();
-
-        // 3. Batch load all child replies (depth limit: fetch all descendants up to 3 levels)
-        List<Reply> allChildReplies = loadChildRepliesWithDepthLimit(rootReplyCodes, 3);
-
-        // 4. Build tree structure
-        Map<String, ReplyResponse> nodeMap = new java.util.HashMap<>();
+        return PageResponseDto.<ReplyResponse>builder()
+                .content(buildReplyPageTree(postCode, rootReplies, memberId))
+                .totalPages(rootRepliesPage.getTotalPages())
+                .totalElements(totalReplyCount)
+                .build();
+    }
 
-        // Add root replies to map
-        for (Reply reply : rootReplies) {
-            nodeMap.put(reply.getReplyCode(), mapReplyToResponse(reply, memberId));
+    @Override
+    public CursorResponseDto<ReplyResponse> getRepliesByPostCodeCursor(String postCode, String cursor, Integer pageSize, Integer memberId) {
+        LocalDateTime cursorRegTime = null;
+        String cursorReplyCode = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int sep = cursor.indexOf(CURSOR_DELIMITER);
+            try {
+                cursorRegTime = LocalDateTime.parse(cursor.substring(0, sep));
+                cursorReplyCode = cursor.substring(sep + 1);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 cursor 값입니다.");
+            }
         }
 
-        // Add child replies to map
-        for (Reply reply : allChildReplies) {
-            nodeMap.put(reply.getReplyCode(), mapReplyToResponse(reply, memberId));
-        }
+        // 전체 댓글 수는 첫 페이지에서만 조회
+        Long totalReplyCount = cursorRegTime == null
+                ? replyRepository.countByPostCodeAndDelYnFalse(postCode)
+                : null;
 
-        // Build parent-child relationships
-        for (Reply reply : allChildReplies) {
-            Reply parent = reply.getParentReplyCode();
-            if (parent != null) {
-                ReplyResponse parentDto = nodeMap.get(parent.getReplyCode());
-                if (parentDto != null) {
-                    ReplyResponse childDto = nodeMap.get(reply.getReplyCode());
-                    parentDto.getReplies().add(childDto);
-                }
-            }
-        }
+        // pageSize + 1건 조회로 다음 페이지 존재 여부 판단
+        List<Reply> rows = replyRepository.getRootRepliesByCursor(postCode, cursorRegTime, cursorReplyCode, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<Reply> rootReplies = hasNext ? rows.subList(0, pageSize) : rows;
 
-        // Get only root level responses
-        List<ReplyResponse> content = rootReplies.stream()
-                .map(r -> nodeMap.get(r.getReplyCode()))
-                .toList();
+        String nextCursor = null;
+        if (hasNext) {
+            Reply last = rootReplies.get(rootReplies.size() - 1);
+            nextCursor = last.getRegTime() + CURSOR_DELIMITER + last.getReplyCode();
+        }
 
-        return PageResponseDto.<ReplyResponse>builder()
-                .content(content)
-                .totalPages(rootRepliesPage.getTotalPages())
+        return CursorResponseDto.<ReplyResponse>builder()
+                .content(rootReplies.isEmpty() ? List.of() : buildReplyPageTree(postCode, rootReplies, memberId))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .totalElements(totalReplyCount)
                 .build();
     }
 
     /**
-     * Load child replies with depth limit to prevent infinite recursion
+     * 루트 댓글 한 페이지에 하위 댓글 트리를 붙여 반환
      */
-    private List<Reply> loadChildRepliesWithDepthLimit(List<String> parentCodes, int maxDepth) {
-        if (maxDepth <= 0 || parentCodes.isEmpty()) {
-            return List.of();
-        }
+    private List<ReplyResponse> buildReplyPageTree(String postCode, List<Reply> rootReplies, Integer memberId) {
+        // 1. Collect root reply codes for subtree loading
+        List<String> rootReplyCodes = rootReplies.stream()
+                .map(Reply::getReplyCode)
+                .toList();
+
+        // 2. Load every descendant of the page in one path-ordered range query
+        List<Reply> descendants = replyRepository.getSubtreesByRootCodes(postCode, rootReplyCodes);
+
+        // 3. Batch resolve like flags for the whole page (single IN query)
+        List<Reply> pageReplies = new ArrayList<>(rootReplies);
+        pageReplies.addAll(descendants);
+        Set<String> likedCodes = findLikedReplyCodes(pageReplies, memberId);
 
-        List<Reply> allChildren = new ArrayList<>();
-        List<String> currentLevelCodes = parentCodes;
+        // 4. Build tree structure in a single pass over path order
+        List<ReplyResponse> content = new ArrayList<>(rootReplies.size());
+        Map<String, PathNode> rootNodes = new HashMap<>();
+        for (Reply reply : rootReplies) {
+            ReplyResponse node = mapReplyToResponse(reply, likedCodes);
+            content.add(node);
+            String rootPath = Reply.pathSegment(reply.getReplyCode());
+            rootNodes.put(rootPath, new PathNode(rootPath, node));
+        }
 
-        for (int depth = 0; depth < maxDepth; depth++) {
-            List<Reply> levelChildren = replyRepository.getChildRepliesByParentCodes(currentLevelCodes);
-            if (levelChildren.isEmpty()) {
-                break;
+        // path 순서에서는 부모가 항상 자식보다 먼저 나오므로 현재 조상 경로만 스택으로 유지
+        Deque<PathNode> ancestors = new ArrayDeque<>();
+        for (Reply reply : descendants) {
+            String path = reply.getPath();
+            while (!ancestors.isEmpty() && !path.startsWith(ancestors.peek().path())) {
+                ancestors.pop();
+            }
+            if (ancestors.isEmpty()) {
+                PathNode root = rootNodes.get(path.substring(0, Reply.PATH_SEGMENT_LENGTH));
+                if (root == null) {
+                    continue;
+                }
+                ancestors.push(root);
             }
-            allChildren.addAll(levelChildren);
-            currentLevelCodes = levelChildren.stream()
-                    .map(Reply::getReplyCode)
-                    .toList();
+            // 삭제된 댓글의 하위 댓글은 부모가 스택에 없으므로 제외
+            String parentPath = path.substring(0, path.length() - Reply.PATH_SEGMENT_LENGTH);
+            if (!ancestors.peek().path().equals(parentPath)) {
+                continue;
+            }
+            ReplyResponse node = mapReplyToResponse(reply, likedCodes);
+            ancestors.peek().node().getReplies().add(node);
+            ancestors.push(new PathNode(path, node));
         }
 
-        return allChildren;
+        return content;
+    }
+
+    private record PathNode(String path, ReplyResponse node) {}
+
+    private Set<String> findLikedReplyCodes(List<Reply> replies, Integer memberId) {
+        if (memberId == null || replies.isEmpty()) {
+            return Set.of();
+        }
+        List<String> codes = replies.stream()
+                .map(Reply::getReplyCode)
+                .toList();
+        return likesRepository.findLikedCodes(memberId, codes);
     }
 
-    private ReplyResponse mapReplyToResponse(Reply entity, Integer memberId) {
+    private ReplyResponse mapReplyToResponse(Reply entity, Set<String> likedCodes) {
         return ReplyResponse.builder()
                 .replyCode(entity.getReplyCode())
                 .memberId(entity.getMember().getMemberId())
@@ -295,7 +366,7 @@ public class ReplyServiceImpl implements ReplyService {
                 .regDate(entity.getRegTime().toLocalDate().toString())
                 .updateDate(entity.getUpdateTime().toLocalDate().toString())
                 .likesCnt(entity.getLikesCnt())
-                .isLiked(memberId != null && likesRepository.existsByCodeAndMemberId(entity.getReplyCode(), memberId))
+                .isLiked(likedCodes.contains(entity.getReplyCode()))
                 .replies(new ArrayList<>())
                 .build();
     }
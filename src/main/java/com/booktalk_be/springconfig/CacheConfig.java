@@ -1,37 +1,56 @@
 package com.booktalk_be.springconfig;
 
+import com.booktalk_be.common.cache.BroadcastingCaffeineCacheManager;
+import com.booktalk_be.common.cache.CacheInvalidationBus;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
-
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     /**
-     * 관리자 페이지 캐시 매니저
+     * 캐시 매니저
      *
      * 캐시 대상:
-     * - boardAdminList: 관리자 게시글 목록/검색 (TTL 30초)
-     * - replyAdminList: 관리자 댓글 목록/검색 (TTL 30초)
+     * - boardAdminList: 관리자 게시글 목록/검색 (AdminListCache가 범위별 세대로 무효화)
+     * - replyAdminList: 관리자 댓글 목록/검색 (게시글 prefix 범위별 세대로 무효화)
+     * - member: 인증 회원 정보 DTO (JWT principal에 없는 정보가 필요한 API용, 회원 정보/권한 수정 커밋 후 evict)
      *
      * 설계 근거:
      * - COUNT 쿼리가 전체 응답 시간의 90% 이상 차지 (board 100만행 ~1,000ms, reply 250만행 ~2,200ms)
-     * - 관리자 페이지 특성상 동일 페이지 재방문 빈도 높음
-     * - TTL 30초로 제재/복구 반영과 캐시 효율 간 균형
+     * - 캐시마다 재방문 패턴과 값 크기가 달라 TTL/용량을 app.cache.specs.<이름>으로 따로 지정
+     *   (미지정 캐시는 app.cache.defaults, 기본값 TTL 30초 / 200건)
+     * - recordStats로 적중률/eviction/로딩 시간을 수집하고 GET /admin/cache/stats로 노출하여
+     *   운영 데이터로 용량과 TTL을 조정
+     * - 캐시는 노드별 로컬(L1)이므로 evict/clear와 관리자 목록 세대 증가는 CacheInvalidationBus로
+     *   다른 노드에 전파한다. 전파 지연(polling 주기)만큼만 낡은 값이 남으므로 TTL을 길게 잡을 수 있다.
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(30, TimeUnit.SECONDS)
-                .maximumSize(200)
-        );
+    public CacheManager cacheManager(CacheSpecProperties properties, CacheInvalidationBus invalidationBus) {
+        BroadcastingCaffeineCacheManager cacheManager = new BroadcastingCaffeineCacheManager(invalidationBus);
+        cacheManager.setCaffeine(builder(properties.getDefaults()));
+        properties.getSpecs().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, builder(spec).build()));
         return cacheManager;
     }
+
+    /**
+     * 설정값으로 Caffeine builder 생성 (refreshAfterWrite는 loader를 지정하는 쪽에서 적용)
+     */
+    public static Caffeine<Object, Object> builder(CacheSpecProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight()).weigher(new CacheWeigher());
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        return builder;
+    }
 }
@@ -0,0 +1,40 @@
+package com.booktalk_be.springconfig;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 Caffeine 설정 (app.cache.*)
+ *
+ * specs에 없는 캐시는 defaults를 사용한다.
+ * maximum-weight를 지정하면 maximum-size 대신 CacheWeigher 기준(응답 행 수)으로 용량을 제한한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+@Getter
+@Setter
+public class CacheSpecProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    public Spec specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private Duration expireAfterWrite = Duration.ofSeconds(30);
+        // loader가 있는 캐시(AsyncLoadingCache 등)에서만 적용
+        private Duration refreshAfterWrite;
+        private Long maximumSize = 200L;
+        private Long maximumWeight;
+    }
+}
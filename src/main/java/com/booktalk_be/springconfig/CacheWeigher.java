@@ -0,0 +1,44 @@
+package com.booktalk_be.springconfig;
+
+import com.booktalk_be.common.responseDto.PageResponseDto;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 캐시 값의 대략적인 크기(행 수) 산정
+ *
+ * 페이지 크기가 10~100으로 다양한 관리자 목록은 항목 수보다 담긴 행 수가 메모리 사용량을 좌우한다.
+ * 정확한 바이트 계산 대신 목록 행 수 + 1을 가중치로 사용한다.
+ */
+public class CacheWeigher implements Weigher<Object, Object> {
+
+    /**
+     * 래퍼 값이 실제 payload 기준 가중치를 알려줄 때 구현
+     */
+    public interface Weighted {
+        int weight();
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return weightOf(value);
+    }
+
+    public static int weightOf(Object value) {
+        if (value instanceof Weighted w) {
+            return Math.max(1, w.weight());
+        }
+        if (value instanceof PageResponseDto<?> page) {
+            return 1 + (page.getContent() == null ? 0 : page.getContent().size());
+        }
+        if (value instanceof Collection<?> c) {
+            return 1 + c.size();
+        }
+        if (value instanceof Map<?, ?> m) {
+            return 1 + m.size();
+        }
+        return 1;
+    }
+}
@@ -1,14 +1,63 @@
 package com.booktalk_be.springconfig;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 외부 API(NLK 등) 호출용 RestTemplate
+ *
+ * 설계 근거:
+ * - 기본 RestTemplate은 타임아웃이 없어 외부 API 지연 시 요청 스레드가 무기한 대기
+ * - 요청마다 새 커넥션을 맺지 않도록 커넥션 풀을 사용하고, 유휴 커넥션은 주기적으로 정리
+ * - 풀에서 커넥션을 기다리는 시간도 제한하여 외부 장애가 톰캣 스레드 고갈로 번지지 않게 한다.
+ */
 @Configuration
 public class HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(
+            @Value("${app.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${app.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${app.http.pool-wait-timeout-ms:1000}") long poolWaitTimeoutMs,
+            @Value("${app.http.max-connections:50}") int maxConnections,
+            @Value("${app.http.max-connections-per-route:20}") int maxConnectionsPerRoute) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
     }
 }
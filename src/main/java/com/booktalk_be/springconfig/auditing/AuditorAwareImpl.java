@@ -1,6 +1,6 @@
 package com.booktalk_be.springconfig.auditing;
 
-import com.booktalk_be.domain.member.model.entity.Member;
+import com.booktalk_be.springconfig.auth.user.AuthMember;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,6 +16,6 @@ public class AuditorAwareImpl implements AuditorAware<String> {
             return null;
         }
 
-        return Optional.of(((Member) authentication.getPrincipal()).getEmail());
+        return Optional.of(((AuthMember) authentication.getPrincipal()).getEmail());
     }
 }
\ No newline at end of file
@@ -55,6 +55,8 @@ public class SecurityConfig  {
                         .requestMatchers("/member/list").hasAuthority("ADMIN")
                         .requestMatchers("/member/list/search").hasAuthority("ADMIN")
                         .requestMatchers("/member/role/**").hasAuthority("ADMIN")
+                        // 캐시 진단
+                        .requestMatchers("/admin/cache/**").hasAuthority("ADMIN")
                         // 기존 public 경로
                         .requestMatchers("/uploads/**","/login","/refresh","/gathering/**", "/community/**", "/reply/**", "/member/**", "/dashboard/**", "/token-refresh", "/error","/nlk/**","/oauth/**","/logout","/book-reviews/**").permitAll()
                         .anyRequest().authenticated()
@@ -1,7 +1,7 @@
 package com.booktalk_be.springconfig.auth.jwt;
 
-import com.booktalk_be.domain.member.model.entity.Member;
-import com.booktalk_be.domain.member.service.MemberService;
+import com.booktalk_be.domain.auth.model.entity.AuthorityType;
+import com.booktalk_be.springconfig.auth.user.AuthMember;
 import com.booktalk_be.springconfig.exception.Dto.ErrorDto;
 import com.booktalk_be.springconfig.exception.utils.ErrorResponseUtil;
 import io.jsonwebtoken.Claims;
@@ -21,13 +21,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
-    private final MemberService memberService;
 
     private static final List<String> EXCLUDED_URLS = List.of(
             "/login","/refresh","/logout"
@@ -47,13 +47,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         try {
             if (StringUtils.hasText(token)) {
-                jwtProvider.validateToken(token); // 토큰 유효성 검사 (예외 발생 가능)
-
-                Claims claims = jwtProvider.getClaimsFromToken(token);
+                // 토큰 유효성 검사 + claims 추출 (예외 발생 가능)
+                Claims claims = jwtProvider.verifyAndGetClaims(token);
                 Integer userId = (Integer) claims.get("userKey");
 
                 if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    SecurityContextHolder.getContext().setAuthentication(getUserAuth(userId));
+                    SecurityContextHolder.getContext().setAuthentication(getUserAuth(userId, claims));
                 }
             }
         } catch (JwtException | IllegalArgumentException e) {
@@ -66,10 +65,24 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private UsernamePasswordAuthenticationToken getUserAuth(int userId) {
-        Member memberInfo = memberService.getMemberById(userId);
-        return new UsernamePasswordAuthenticationToken(memberInfo,
+    /**
+     * 토큰 claim으로 principal 구성 (member 조회 없음)
+     * 권한 변경은 토큰 재발급 시점부터 반영된다.
+     */
+    private UsernamePasswordAuthenticationToken getUserAuth(int userId, Claims claims) {
+        AuthorityType authority = resolveAuthority(claims.get("roles"));
+        AuthMember principal = new AuthMember(userId, claims.getSubject(), authority);
+        return new UsernamePasswordAuthenticationToken(principal,
                 null,
-                Collections.singleton(new SimpleGrantedAuthority(memberInfo.getAuthority().toString())));
+                Collections.singleton(new SimpleGrantedAuthority(authority.toString())));
+    }
+
+    // AuthorityType은 @JsonFormat(OBJECT)로 직렬화되어 {"type": "ADMIN", "name": "관리자"} 형태로 들어 있음
+    private AuthorityType resolveAuthority(Object roles) {
+        Object type = roles instanceof Map<?, ?> map ? map.get("type") : roles;
+        if (type == null) {
+            throw new IllegalArgumentException("roles claim is missing");
+        }
+        return AuthorityType.valueOf(type.toString());
     }
 }
@@ -3,6 +3,9 @@ package com.booktalk_be.springconfig.auth.jwt;
 
 import com.booktalk_be.domain.auth.model.entity.AuthorityType;
 import com.booktalk_be.domain.auth.model.properties.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -14,9 +17,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
@@ -29,10 +37,68 @@ public class JwtProvider {
 
     private SecretKey key;
 
+    // 키가 고정이므로 parser는 한 번만 생성 (JwtParser는 thread-safe)
+    private JwtParser parser;
+
+    /**
+     * 검증 완료 토큰 캐시: SHA-256(token) → claims
+     * 같은 access token으로 반복 요청 시 HMAC 검증/JSON 파싱을 생략한다.
+     * 항목은 토큰 exp 시각에 만료되므로 만료된 토큰이 캐시로 통과하지 않는다.
+     */
+    private Cache<String, Claims> verifiedTokens;
+
     @PostConstruct
     public void init() {
         key = Keys.hmacShaKeyFor(jwtProperties.getSecretAccessKey().getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+                        long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
+    /**
+     * 서명/만료 검증 후 claims 반환 (인증 필터용 단일 경로)
+     * 최근 검증한 토큰은 캐시된 claims를 그대로 반환한다.
+     */
+    public Claims verifyAndGetClaims(final String token) throws JwtException {
+        String tokenHash = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String getUsernameFromToken(final String token) {
@@ -50,11 +116,7 @@ public class JwtProvider {
     }
 
     public Claims getAllClaimsFromToken(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String generateAccessToken(final String id, final int userKey, final AuthorityType userRole){
@@ -95,18 +157,11 @@ public class JwtProvider {
     }
 
     public void validateToken(final String token) throws JwtException {
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+        parser.parseClaimsJws(token);
     }
 
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     // 기존 메서드 (검증용 - 필터 등에서 사용)
@@ -0,0 +1,19 @@
+package com.booktalk_be.springconfig.auth.user;
+
+import com.booktalk_be.domain.auth.model.entity.AuthorityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JWT 인증 사용자 principal
+ *
+ * access token claim(sub, userKey, roles)만으로 구성하므로 요청마다 member 테이블을 조회하지 않는다.
+ * 연관관계 연결에는 MemberService.getMemberReference(memberId), 회원 필드가 필요하면 getMemberById(memberId)를 쓴다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthMember {
+    private final int memberId;
+    private final String email;
+    private final AuthorityType authority;
+}
@@ -1,7 +1,5 @@
 package com.booktalk_be.springconfig.auth.user;
 
-import com.booktalk_be.domain.auth.model.entity.Refresh_Token;
-import com.booktalk_be.domain.auth.model.repository.RefreshTokenRepository;
 import com.booktalk_be.domain.auth.service.RefreshTokenServiceImpl;
 import com.booktalk_be.domain.member.model.entity.Member;
 import com.booktalk_be.domain.member.service.MemberService;
@@ -25,7 +23,6 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
     private final JwtProvider jwtProvider;
     private final RefreshTokenServiceImpl refreshTokenService;
-    private final RefreshTokenRepository refreshTokenRepository;
     private final MemberService memberService;
 
     @Override
@@ -38,14 +35,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
         String accessToken = jwtProvider.generateAccessToken(member.getEmail(),member.getMemberId(),member.getAuthority());
 
-        String refreshToken = "";
-
-        if(refreshTokenService.validateExistMember(memberId)) {
-            refreshTokenService.deleteRefreshToken(memberId);
-            refreshTokenRepository.flush();
-        }
-        Refresh_Token newRefreshToken = refreshTokenService.saveRefreshToken(memberId);
-        refreshToken = newRefreshToken.getToken();
+        String refreshToken = refreshTokenService.rotateRefreshToken(memberId, member.getEmail());
 
         ResponseCookie accessCookie = ResponseCookie.from("access_token", accessToken)
                 .httpOnly(false)
@@ -8,6 +8,8 @@ import org.hibernate.type.StandardBasicTypes;
  * MySQL FULLTEXT 검색을 위한 Hibernate 커스텀 함수 등록.
  * HQL에서 MATCH...AGAINST 구문을 직접 사용할 수 없으므로
  * function('match_against', column, keyword) 형태로 호출할 수 있도록 등록한다.
+ * 복합 FULLTEXT 인덱스(예: gathering(name, summary))는 인덱스 컬럼을 모두 MATCH에 넘겨야 하므로
+ * function('match_against2', column1, column2, keyword)를 함께 등록한다.
  */
 public class FullTextFunctionContributor implements FunctionContributor {
 
@@ -22,5 +24,15 @@ public class FullTextFunctionContributor implements FunctionContributor {
                                 .resolve(StandardBasicTypes.DOUBLE))
                 .setExactArgumentCount(2)
                 .register();
+
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder("match_against2",
+                        "MATCH(?1, ?2) AGAINST(?3 IN BOOLEAN MODE)")
+                .setInvariantType(
+                        functionContributions.getTypeConfiguration()
+                                .getBasicTypeRegistry()
+                                .resolve(StandardBasicTypes.DOUBLE))
+                .setExactArgumentCount(3)
+                .register();
     }
 }
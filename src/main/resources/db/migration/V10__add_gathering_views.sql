@@ -0,0 +1,7 @@
+-- 모임 조회수 컬럼
+-- 상세 조회는 ViewCountBuffer에 누적 후 주기적으로 배치 반영 (views = views + ?)
+-- 목록 조회수순 정렬용 인덱스 포함
+
+ALTER TABLE gathering ADD COLUMN views INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_gathering_del_views ON gathering (del_yn, views DESC);
@@ -0,0 +1,5 @@
+-- 모임 목록 검색 성능 최적화: MySQL FULLTEXT Index (ngram 파서)
+-- 기존 UPPER(name) LIKE UPPER('%keyword%') → MATCH(name, summary) AGAINST 전환으로 풀 스캔 제거
+-- 검색 시 MATCH 컬럼 목록이 인덱스 컬럼과 정확히 일치해야 함 (name, summary)
+
+CREATE FULLTEXT INDEX ft_gathering_name_summary ON gathering(name, summary) WITH PARSER ngram;
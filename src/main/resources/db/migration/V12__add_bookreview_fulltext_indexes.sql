@@ -0,0 +1,8 @@
+-- 북리뷰 검색 성능 최적화: MySQL FULLTEXT Index (ngram 파서)
+-- V6(board.title, reply.content)과 동일하게 LIKE '%keyword%' → MATCH...AGAINST 전환
+-- 검색 유형별로 단일 컬럼을 MATCH하므로 컬럼마다 별도 인덱스 생성
+-- ISBN 검색은 기존 idx_bookreview_isbn에 대한 앞부분 일치(LIKE 'keyword%')로 처리
+
+CREATE FULLTEXT INDEX ft_bookreview_title ON book_review(title) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_bookreview_book_title ON book_review(book_title) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_bookreview_authors ON book_review(authors) WITH PARSER ngram;
@@ -0,0 +1,24 @@
+-- ISBN별 서평 집계 테이블
+-- 책 페이지의 평균 평점/서평 수 조회를 book_review 스캔 없이 1행 조회로 대체
+-- review_cnt / rating_sum: del_yn = false 서평 기준
+-- avg_rating: 평점순 목록 정렬용 stored generated column (인덱스 사용)
+
+CREATE TABLE IF NOT EXISTS book_stats (
+    isbn VARCHAR(255) NOT NULL,
+    book_title VARCHAR(255),
+    authors VARCHAR(255),
+    publisher VARCHAR(255),
+    thumbnail_url VARCHAR(5000),
+    review_cnt BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    avg_rating DECIMAL(6, 3) AS (IF(review_cnt = 0, 0, rating_sum / review_cnt)) STORED,
+    PRIMARY KEY (isbn),
+    INDEX idx_book_stats_avg_rating (avg_rating DESC, review_cnt DESC)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 데이터 기준 초기 집계
+INSERT INTO book_stats (isbn, book_title, authors, publisher, thumbnail_url, review_cnt, rating_sum)
+SELECT isbn, MAX(book_title), MAX(authors), MAX(publisher), MAX(thumbnail_url),
+       SUM(del_yn = false), SUM(IF(del_yn = false, rating, 0))
+FROM book_review
+GROUP BY isbn;
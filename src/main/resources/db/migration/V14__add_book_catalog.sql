@@ -0,0 +1,17 @@
+-- NLK 검색 결과 로컬 카탈로그 (ISBN 기준)
+-- NlkSearchService가 외부 API 응답을 백그라운드로 upsert 하고,
+-- local-first 검색은 ngram FULLTEXT(title, author)로 먼저 조회한 뒤 부족하거나 오래된 경우에만 NLK 호출
+-- updated_at: 마지막으로 NLK 응답에서 확인된 시각 (stale 판정 기준)
+
+CREATE TABLE IF NOT EXISTS book_catalog (
+    isbn VARCHAR(20) NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    author VARCHAR(500),
+    publisher VARCHAR(255),
+    pub_year VARCHAR(20),
+    cover_url VARCHAR(1000),
+    control_no VARCHAR(50),
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (isbn),
+    FULLTEXT INDEX ft_book_catalog_title_author (title, author) WITH PARSER ngram
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
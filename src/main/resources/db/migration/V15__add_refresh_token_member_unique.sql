@@ -0,0 +1,8 @@
+-- 리프레시 토큰 회전을 단일 upsert(INSERT ... ON DUPLICATE KEY UPDATE)로 처리하기 위한 unique key
+-- 로그인/재발급 시 기존 토큰을 지우고 새로 저장하므로 회원당 1건만 유지되어야 함
+-- (중복 행이 남아 있으면 하나만 남기고 정리)
+
+DELETE t1 FROM refresh_token t1
+JOIN refresh_token t2 ON t1.member_id = t2.member_id AND t1.refresh_token < t2.refresh_token;
+
+ALTER TABLE refresh_token ADD UNIQUE KEY uk_refresh_token_member (member_id);
@@ -0,0 +1,15 @@
+-- 노드 간 로컬 캐시(Caffeine) 무효화 전파 로그
+-- 각 노드는 캐시 evict/clear, 관리자 목록 세대 증가를 이 테이블에 기록하고
+-- 다른 노드는 마지막으로 처리한 id 이후만 PK 범위로 주기 조회하여 자신의 캐시에 반영
+-- 보관 기간(app.cache.invalidation.retention-hours)이 지난 행은 주기적으로 삭제
+
+CREATE TABLE IF NOT EXISTS cache_invalidation_log (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    origin VARCHAR(64) NOT NULL,
+    cache_name VARCHAR(100) NOT NULL,
+    kind VARCHAR(20) NOT NULL,
+    cache_key VARCHAR(500),
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    INDEX idx_cache_invalidation_log_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,21 @@
+-- 댓글 path 세그먼트 고정 폭 전환
+-- 기존: reply_code를 그대로 이어 붙임 (REP_1/REP_5/) → 코드 길이가 달라 깊이별 길이 상한이 없고,
+--       legacy REP_<millis>와 생성기 ID가 섞이면 문자열 순서가 작성 순서와 달라짐
+-- 변경: reply_code 숫자부를 19자리 0 채움 + '/' (세그먼트 20자, VARCHAR(500) 기준 최대 25단계)
+--       ascii_bin 정렬 = 숫자 순서 = 작성 순서
+
+UPDATE reply r
+JOIN (
+    WITH RECURSIVE tree AS (
+        SELECT reply_code,
+               CAST(CONCAT(LPAD(SUBSTRING_INDEX(reply_code, '_', -1), 19, '0'), '/') AS CHAR(500)) AS path
+        FROM reply
+        WHERE parent_reply_code IS NULL
+        UNION ALL
+        SELECT c.reply_code, CONCAT(t.path, LPAD(SUBSTRING_INDEX(c.reply_code, '_', -1), 19, '0'), '/')
+        FROM reply c
+        JOIN tree t ON c.parent_reply_code = t.reply_code
+    )
+    SELECT reply_code, path FROM tree
+) p ON p.reply_code = r.reply_code
+SET r.path = p.path;
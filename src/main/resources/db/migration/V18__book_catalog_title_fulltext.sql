@@ -0,0 +1,8 @@
+-- 카탈로그 local-first 검색을 NLK 검색 대상(srchTarget=title)과 맞추기 위해 제목 전용 FULLTEXT 사용
+-- (title, author) 인덱스는 더 이상 조회에 쓰이지 않으므로 제거
+
+ALTER TABLE book_catalog
+    ADD FULLTEXT INDEX ft_book_catalog_title (title) WITH PARSER ngram;
+
+ALTER TABLE book_catalog
+    DROP INDEX ft_book_catalog_title_author;
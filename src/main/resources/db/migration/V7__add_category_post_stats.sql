@@ -0,0 +1,20 @@
+-- 카테고리/게시글 유형별 게시글 수 집계 테이블
+-- 목록 페이징의 COUNT(*) 쿼리를 집계 행 1건 조회로 대체
+-- active_cnt: del_yn = false 게시글 수 / total_cnt: 삭제·제재 포함 전체 게시글 수
+
+CREATE TABLE IF NOT EXISTS category_post_stats (
+    category_id INT NOT NULL,
+    post_type VARCHAR(20) NOT NULL,
+    active_cnt BIGINT NOT NULL DEFAULT 0,
+    total_cnt BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (category_id, post_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 데이터 기준 초기 집계
+INSERT INTO category_post_stats (category_id, post_type, active_cnt, total_cnt)
+SELECT category_id, 'BOARD', SUM(del_yn = false), COUNT(*) FROM board GROUP BY category_id
+ON DUPLICATE KEY UPDATE active_cnt = VALUES(active_cnt), total_cnt = VALUES(total_cnt);
+
+INSERT INTO category_post_stats (category_id, post_type, active_cnt, total_cnt)
+SELECT category_id, 'BOOK_REVIEW', SUM(del_yn = false), COUNT(*) FROM book_review GROUP BY category_id
+ON DUPLICATE KEY UPDATE active_cnt = VALUES(active_cnt), total_cnt = VALUES(total_cnt);
@@ -0,0 +1,24 @@
+-- 댓글 materialized path
+-- path = 루트부터 자신까지의 reply_code를 '/'로 이어 붙인 값 (예: REP_1/REP_5/REP_9/)
+-- 루트 댓글 페이지의 하위 트리 전체를 post_code + path prefix 범위 스캔 1회로 조회하기 위함
+-- reply_code는 ASCII만 사용하므로 ascii_bin으로 인덱스 키 크기를 줄이고 바이트 순 정렬을 보장
+
+ALTER TABLE reply ADD COLUMN path VARCHAR(500) CHARACTER SET ascii COLLATE ascii_bin NULL;
+
+-- 기존 댓글 path 채우기
+UPDATE reply r
+JOIN (
+    WITH RECURSIVE tree AS (
+        SELECT reply_code, CAST(CONCAT(reply_code, '/') AS CHAR(500)) AS path
+        FROM reply
+        WHERE parent_reply_code IS NULL
+        UNION ALL
+        SELECT c.reply_code, CONCAT(t.path, c.reply_code, '/')
+        FROM reply c
+        JOIN tree t ON c.parent_reply_code = t.reply_code
+    )
+    SELECT reply_code, path FROM tree
+) p ON p.reply_code = r.reply_code
+SET r.path = p.path;
+
+CREATE INDEX idx_reply_postcode_path ON reply (post_code, path);
@@ -0,0 +1,14 @@
+-- 모임 현재 인원 수 컬럼
+-- 목록 조회 시 gathering_member_map COUNT 없이 바로 읽기 위함
+-- 멤버 추가(모임 생성, sp_gathering_recruit_approve)/제거 시 함께 증감
+
+ALTER TABLE gathering ADD COLUMN current_members INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 기준 초기값
+UPDATE gathering g
+JOIN (
+    SELECT gathering_code, COUNT(*) AS cnt
+    FROM gathering_member_map
+    GROUP BY gathering_code
+) m ON m.gathering_code = g.gathering_code
+SET g.current_members = m.cnt;
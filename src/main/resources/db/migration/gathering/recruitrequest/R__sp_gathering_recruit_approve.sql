@@ -8,6 +8,8 @@ CREATE PROCEDURE sp_gathering_recruit_approve(
     IN p_applicant_id INT
 )
 BEGIN
+    DECLARE v_inserted TINYINT DEFAULT 1;
+
     -- 모임장 권한 체크
     IF NOT EXISTS (
         SELECT 1
@@ -19,10 +21,21 @@ BEGIN
         SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'NOT_MASTER';
 END IF;
 
-    -- 멤버 매핑 추가(이미 있으면 유지)
+    -- 멤버 매핑 추가(이미 있으면 유지) + 실제로 추가된 경우에만 현재 인원 증가
+    -- 존재 확인을 INSERT 자체로 처리하여 동시 승인 시에도 1회만 증가한다.
+    -- 중복 키(1062)만 "이미 멤버"로 처리하고, FK 위반 등 다른 오류는 그대로 전파되어 신청이 삭제되지 않는다.
+    -- (ON DUPLICATE KEY UPDATE + ROW_COUNT()는 드라이버의 CLIENT_FOUND_ROWS 설정에 따라 중복 시에도 1이 되어 사용하지 않음)
+BEGIN
+    DECLARE CONTINUE HANDLER FOR 1062 SET v_inserted = 0;
 INSERT INTO gathering_member_map (gathering_code, member_id, master_yn)
-VALUES (p_gathering_code, p_applicant_id, 0)
-    ON DUPLICATE KEY UPDATE master_yn = master_yn;
+VALUES (p_gathering_code, p_applicant_id, 0);
+END;
+
+IF v_inserted = 1 THEN
+UPDATE gathering
+SET current_members = current_members + 1
+WHERE gathering_code = p_gathering_code;
+END IF;
 
 -- 신청 데이터 삭제(질문 row 전체)
 DELETE FROM recruit_request
@@ -0,0 +1,196 @@
+package com.booktalk_be.performance;
+
+import com.booktalk_be.common.cache.InProcessCacheInvalidationBus;
+import com.booktalk_be.common.command.CountStrategy;
+import com.booktalk_be.common.responseDto.PageResponseDto;
+import com.booktalk_be.common.responseDto.TotalCount;
+import com.booktalk_be.common.service.AdminListCache;
+import com.booktalk_be.springconfig.CacheSpecProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 목록 캐시 세대 무효화 / 로딩 검증
+ *
+ * 사용자 쓰기가 관리자 목록 전체를 비우지 않고 영향받는 범위/필터만 다시 읽는지,
+ * 동시 miss에서 COUNT가 1회만 실행되고 페이지를 넘겨도 다시 세지 않는지 loader 호출 수로 확인한다.
+ * CAPPED 총 개수가 상한 도달 시 totalApproximate로 표시되는지도 확인한다.
+ * 노드 간 전파는 InProcessCacheInvalidationBus로 두 노드를 연결해 확인한다. (DB 불필요)
+ */
+class AdminListCacheTest {
+
+    private static final String CACHE = "replyAdminList";
+
+    private final AdminListCache cache = newNode(new InProcessCacheInvalidationBus());
+    private final AtomicInteger contentLoads = new AtomicInteger();
+    private final AtomicInteger countLoads = new AtomicInteger();
+
+    private static AdminListCache newNode(InProcessCacheInvalidationBus bus) {
+        return new AdminListCache(new ConcurrentMapCacheManager(CACHE), bus, new CacheSpecProperties(), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    private PageResponseDto<String> get(AdminListCache node, String scope, String filter, LocalDate endDate, int pageNum) {
+        return node.getPage(CACHE, scope, filter, endDate, pageNum, 10,
+                pageable -> List.of("v" + contentLoads.incrementAndGet()),
+                () -> {
+                    countLoads.incrementAndGet();
+                    return TotalCount.exact(100);
+                });
+    }
+
+    private String first(PageResponseDto<String> page) {
+        return page.getContent().get(0);
+    }
+
+    @Test
+    @DisplayName("다른 범위의 작성은 캐시를 무효화하지 않음")
+    void otherScopeUntouched() {
+        get(cache, "reply:BR_", "all", null, 1);
+        cache.onCreated("reply:*", "reply:BO_");
+        get(cache, "reply:BR_", "all", null, 1);
+        assertEquals(1, contentLoads.get());
+        assertEquals(1, countLoads.get());
+    }
+
+    @Test
+    @DisplayName("신규 작성은 종료일이 지난 기간 검색에 영향 없음")
+    void closedDateRangeIgnoresCreates() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        get(cache, "reply:BO_", "search", yesterday, 2);
+        cache.onCreated("reply:BO_");
+        get(cache, "reply:BO_", "search", yesterday, 2);
+        assertEquals(1, contentLoads.get());
+
+        cache.onModified("reply:BO_");
+        get(cache, "reply:BO_", "search", yesterday, 2);
+        assertEquals(2, contentLoads.get());
+    }
+
+    @Test
+    @DisplayName("총 개수는 필터 단위로 캐시되어 페이지 이동 시 다시 세지 않음")
+    void countSharedAcrossPages() {
+        for (int page = 1; page <= 5; page++) {
+            PageResponseDto<String> res = get(cache, "reply:BO_", "all", null, page);
+            assertEquals(100L, res.getTotalElements());
+            assertEquals(10, res.getTotalPages());
+        }
+        assertEquals(5, contentLoads.get());
+        assertEquals(1, countLoads.get());
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 miss는 loader 1회만 실행")
+    void singleLoaderPerKey() throws InterruptedException {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                return cache.getPage(CACHE, "reply:BO_", "all", null, 1, 10,
+                        pageable -> {
+                            contentLoads.incrementAndGet();
+                            sleep(200);
+                            return List.of("v");
+                        },
+                        () -> {
+                            countLoads.incrementAndGet();
+                            sleep(200);
+                            return TotalCount.exact(100);
+                        });
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1, contentLoads.get());
+        assertEquals(1, countLoads.get());
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 기존 값을 응답하고 백그라운드에서 갱신")
+    void firstPageRefreshAhead() throws InterruptedException {
+        assertEquals("v1", first(get(cache, "reply:BO_", "all", null, 1)));
+        cache.onCreated("reply:BO_");
+
+        assertEquals("v1", first(get(cache, "reply:BO_", "all", null, 1)));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline && !"v2".equals(first(get(cache, "reply:BO_", "all", null, 1)))) {
+            Thread.sleep(10);
+        }
+        assertEquals("v2", first(get(cache, "reply:BO_", "all", null, 1)));
+        assertEquals(2, contentLoads.get());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 제재/복구가 이 노드의 관리자 목록을 무효화")
+    void moderationOnOtherNodeInvalidates() {
+        InProcessCacheInvalidationBus.Hub hub = new InProcessCacheInvalidationBus.Hub();
+        AdminListCache nodeA = newNode(new InProcessCacheInvalidationBus(hub));
+        AdminListCache nodeB = newNode(new InProcessCacheInvalidationBus(hub));
+        try {
+            get(nodeB, "reply:BO_", "all", null, 1);
+            nodeA.onModerated("reply:BO_");
+            assertEquals("v2", first(get(nodeB, "reply:BO_", "all", null, 1)));
+        } finally {
+            nodeA.shutdown();
+            nodeB.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("제재/복구 후에는 첫 페이지도 동기 재조회")
+    void moderationReloadsSynchronously() {
+        get(cache, "reply:BO_", "all", null, 1);
+        cache.onModerated("reply:BO_");
+        assertEquals("v2", first(get(cache, "reply:BO_", "all", null, 1)));
+    }
+
+    @Test
+    @DisplayName("CAPPED 상한을 넘으면 상한값을 근사 총 개수로 응답")
+    void cappedCountIsApproximate() {
+        PageResponseDto<String> res = cache.getPage(CACHE, "reply:BO_", "capped", null, 1, 10,
+                pageable -> List.of("v"),
+                () -> TotalCount.resolve(CountStrategy.CAPPED, 50,
+                        () -> {
+                            throw new AssertionError("CAPPED는 COUNT(*)를 실행하지 않음");
+                        },
+                        limit -> limit,
+                        OptionalLong::empty));
+        assertEquals(50L, res.getTotalElements());
+        assertEquals(5, res.getTotalPages());
+        assertTrue(res.isTotalApproximate());
+
+        PageResponseDto<String> small = cache.getPage(CACHE, "reply:BO_", "capped-small", null, 1, 10,
+                pageable -> List.of("v"),
+                () -> TotalCount.resolve(CountStrategy.CAPPED, 50, () -> 0L, limit -> 7, OptionalLong::empty));
+        assertEquals(7L, small.getTotalElements());
+        assertFalse(small.isTotalApproximate());
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.booktalk_be.performance;
+
+import com.booktalk_be.common.command.PostSearchCondCommand;
+import com.booktalk_be.common.responseDto.PageResponseDto;
+import com.booktalk_be.domain.board.responseDto.BoardResponse;
+import com.booktalk_be.domain.board.service.BoardService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 관리자 목록 동시 miss 시 커넥션 풀 고갈 검증
+ *
+ * 커넥션 풀(4개)보다 많은 요청이 같은 검색 조건으로 동시에 들어와도
+ * 대기 중인 요청 스레드가 커넥션을 잡고 있지 않아 loader가 커넥션을 얻고 모두 성공해야 한다.
+ * 매 실행마다 다른 시작일을 사용하여 캐시 miss(전체 COUNT)를 만든다.
+ *
+ * 사전 조건: 로컬 MySQL(localhost:3306/booktalk)이 실행 중이어야 합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.connection-timeout=5000"
+})
+@ActiveProfiles("dev")
+class AdminListPoolStarvationTest {
+
+    private static final int CALLERS = 16;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Test
+    @DisplayName("풀 크기보다 많은 동시 miss 요청이 모두 성공")
+    void concurrentMissDoesNotStarvePool() throws Exception {
+        PostSearchCondCommand cmd = new PostSearchCondCommand();
+        cmd.setStartDate(LocalDate.of(1990, 1, 1).minusDays(ThreadLocalRandom.current().nextInt(3650)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PageResponseDto<BoardResponse>>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return boardService.searchAllBoardsForPaging(cmd, 1, 10);
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+        long total = futures.get(0).get().getTotalElements();
+        for (Future<PageResponseDto<BoardResponse>> future : futures) {
+            // 커넥션 획득 실패 시 ExecutionException으로 드러남
+            assertEquals(total, future.get().getTotalElements());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.booktalk_be.performance;
+
+import com.booktalk_be.domain.board.responseDto.BoardDetailResponse;
+import com.booktalk_be.domain.board.service.BoardService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 커뮤니티 게시글 상세 조회 쿼리 수 검증
+ *
+ * 게시글 상세는 댓글 수와 무관하게 고정된 statement 수로 조립되어야 한다.
+ *   1. 게시글 projection + 좋아요 여부 서브쿼리
+ *   2. 댓글 projection + 작성자 + 좋아요 여부 서브쿼리
+ *
+ * 사전 조건: 로컬 MySQL(localhost:3306/booktalk)이 실행 중이어야 합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BoardDetailQueryCountTest {
+
+    private static final long EXPECTED_STATEMENTS = 2;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    /** 댓글이 가장 많은 게시글 / 댓글이 없는 게시글 */
+    private String manyRepliesBoardCode;
+    private String noRepliesBoardCode;
+    private Integer memberId;
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        List<String> many = jdbcTemplate.queryForList(
+                "SELECT post_code FROM reply WHERE post_code LIKE 'BO\\_%' AND del_yn = false " +
+                        "GROUP BY post_code ORDER BY COUNT(*) DESC LIMIT 1", String.class);
+        List<String> none = jdbcTemplate.queryForList(
+                "SELECT b.code FROM board b WHERE b.del_yn = false " +
+                        "AND NOT EXISTS (SELECT 1 FROM reply r WHERE r.post_code = b.code) LIMIT 1", String.class);
+        List<Integer> members = jdbcTemplate.queryForList(
+                "SELECT member_id FROM member ORDER BY member_id LIMIT 1", Integer.class);
+
+        manyRepliesBoardCode = many.isEmpty() ? null : many.get(0);
+        noRepliesBoardCode = none.isEmpty() ? null : none.get(0);
+        memberId = members.isEmpty() ? null : members.get(0);
+    }
+
+    private long countStatements(String boardCode, Integer viewerId) {
+        statistics.clear();
+        BoardDetailResponse res = boardService.getBoardDetail(boardCode, viewerId);
+        Assertions.assertNotNull(res.getPost());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("댓글이 많은 게시글 상세 조회 — 로그인 사용자")
+    void manyRepliesWithMember() {
+        Assumptions.assumeTrue(manyRepliesBoardCode != null && memberId != null, "DB에 댓글 데이터 없음 → skip");
+        assertEquals(EXPECTED_STATEMENTS, countStatements(manyRepliesBoardCode, memberId));
+    }
+
+    @Test
+    @DisplayName("댓글이 많은 게시글 상세 조회 — 비로그인 사용자")
+    void manyRepliesAnonymous() {
+        Assumptions.assumeTrue(manyRepliesBoardCode != null, "DB에 댓글 데이터 없음 → skip");
+        assertEquals(EXPECTED_STATEMENTS, countStatements(manyRepliesBoardCode, null));
+    }
+
+    @Test
+    @DisplayName("댓글이 없는 게시글 상세 조회 — 댓글 수와 무관하게 동일한 statement 수")
+    void noRepliesSameStatementCount() {
+        Assumptions.assumeTrue(noRepliesBoardCode != null && memberId != null, "DB에 댓글 없는 게시글 없음 → skip");
+        assertEquals(EXPECTED_STATEMENTS, countStatements(noRepliesBoardCode, memberId));
+    }
+}
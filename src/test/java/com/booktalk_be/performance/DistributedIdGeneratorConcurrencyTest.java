@@ -0,0 +1,76 @@
+package com.booktalk_be.performance;
+
+import com.booktalk_be.common.utils.DistributedIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lock-free Snowflake ID 생성기 동시성 검증
+ *
+ * 처리량 비교는 src/jmh/java의 IdGeneratorBenchmark(./gradlew jmh)에서 수행하고,
+ * 여기서는 다중 스레드에서 중복 ID가 없고 일괄 발급 ID가 연속이며 벽시계보다 크게 앞서지 않는지 확인한다.
+ * (DB 불필요)
+ */
+class DistributedIdGeneratorConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int IDS_PER_THREAD = 20_000;
+
+    private final DistributedIdGenerator generator = new DistributedIdGenerator(7);
+
+    @Test
+    @DisplayName("64개 스레드 동시 발급 시 중복 ID 없음")
+    void noDuplicatesUnderContention() throws InterruptedException {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    ids.add(generator.nextId());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+        ids.forEach(id -> assertEquals(7, DistributedIdGenerator.extractWorkerId(id)));
+    }
+
+    @Test
+    @DisplayName("nextIds는 단조 증가하는 n개의 ID를 반환하고 이후 nextId와 겹치지 않음")
+    void bulkIdsAreIncreasing() {
+        long[] ids = generator.nextIds(4096);
+        assertEquals(4096, ids.length);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+        }
+        assertTrue(generator.nextId() > ids[ids.length - 1]);
+    }
+
+    @Test
+    @DisplayName("벽시계보다 max-drift-ms 넘게 앞서 발급하지 않음")
+    void leadOverWallClockIsCapped() {
+        long maxDriftMs = 5;
+        DistributedIdGenerator capped = new DistributedIdGenerator(7, maxDriftMs);
+        for (int i = 0; i < 50; i++) {
+            long[] ids = capped.nextIds(4096);
+            long issuedAt = DistributedIdGenerator.extractTimestamp(ids[ids.length - 1]);
+            assertTrue(issuedAt <= System.currentTimeMillis() + maxDriftMs);
+        }
+        assertThrows(IllegalArgumentException.class, () -> capped.nextIds(4097));
+    }
+}
@@ -0,0 +1,160 @@
+package com.booktalk_be.performance;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 모임 목록 검색 성능 테스트
+ *
+ * UPPER(name) LIKE '%..%' → MATCH(name, summary) AGAINST (FULLTEXT ngram) 전환 전/후 비교.
+ * SearchPerformanceTest와 동일한 패턴(warm-up 3회 + 측정 5회 + CSV 출력).
+ *
+ * 사전 조건: 로컬 MySQL(localhost:3306/booktalk)이 실행 중이어야 합니다.
+ *
+ * 테스트 케이스:
+ *   1. 기존 방식 LIKE 쿼리 (JDBC 직접 실행, 비교 기준)
+ *   2. FULLTEXT 쿼리 (JDBC 직접 실행)
+ *   3. GET /gathering/list?search=..              — FULLTEXT 검색 (기본 순서)
+ *   4. GET /gathering/list?search=..&sort=relevance — FULLTEXT 검색 + 관련도순 정렬
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@AutoConfigureMockMvc
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class GatheringSearchPerformanceTest {
+
+    private static final String KEYWORD = "독서";
+    private static final int WARM_UP = 3;
+    private static final int ITERATIONS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String[]> csvRows = new ArrayList<>();
+
+    @FunctionalInterface
+    interface TestAction {
+        void run() throws Exception;
+    }
+
+    private void measure(String label, TestAction action) throws Exception {
+        for (int i = 0; i < WARM_UP; i++) {
+            try { action.run(); } catch (Exception ignored) {}
+        }
+
+        long[] ms = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long t0 = System.nanoTime();
+            action.run();
+            ms[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+        }
+
+        long sum = 0, min = Long.MAX_VALUE, max = 0;
+        for (long t : ms) {
+            sum += t;
+            min = Math.min(min, t);
+            max = Math.max(max, t);
+        }
+        long avg = sum / ms.length;
+
+        System.out.printf("  %-65s  avg=%4dms  min=%4dms  max=%4dms  %s%n",
+                label, avg, min, max, Arrays.toString(ms));
+        csvRows.add(new String[]{label, String.valueOf(avg), String.valueOf(min), String.valueOf(max)});
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[BASELINE] LIKE '%keyword%' — 풀 스캔")
+    void likeBaseline() throws Exception {
+        measure("SQL LIKE (name, keyword=" + KEYWORD + ")", () ->
+                jdbcTemplate.queryForList(
+                        "SELECT gathering_code FROM gathering " +
+                                "WHERE del_yn = false AND UPPER(name) LIKE UPPER(?) LIMIT 9",
+                        String.class, "%" + KEYWORD + "%"));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[FULLTEXT] MATCH(name, summary) AGAINST")
+    void fullTextQuery() throws Exception {
+        measure("SQL MATCH (name, summary, keyword=" + KEYWORD + ")", () ->
+                jdbcTemplate.queryForList(
+                        "SELECT gathering_code FROM gathering " +
+                                "WHERE del_yn = false AND MATCH(name, summary) AGAINST(? IN BOOLEAN MODE) > 0 LIMIT 9",
+                        String.class, KEYWORD));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[SEARCH] GET /gathering/list?search= — FULLTEXT 검색")
+    void listSearch() throws Exception {
+        measure("GET /gathering/list (search=" + KEYWORD + ")", () ->
+                mockMvc.perform(get("/gathering/list")
+                                .param("search", KEYWORD)
+                                .param("page", "1")
+                                .param("size", "9"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("[SEARCH] GET /gathering/list?search=&sort=relevance — 관련도순")
+    void listSearchByRelevance() throws Exception {
+        measure("GET /gathering/list (search=" + KEYWORD + ", sort=relevance)", () ->
+                mockMvc.perform(get("/gathering/list")
+                                .param("search", KEYWORD)
+                                .param("sort", "relevance")
+                                .param("page", "1")
+                                .param("size", "9"))
+                        .andExpect(status().isOk()));
+    }
+
+    @AfterAll
+    void writeResults() throws Exception {
+        String phase = System.getProperty("test.phase", "before");
+        Path dir = Paths.get("src", "test", "resources", "performance");
+        Files.createDirectories(dir);
+
+        String ts = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        Path csvFile = dir.resolve("gathering_search_results_" + phase + "_" + ts + ".csv");
+        try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(csvFile))) {
+            pw.println("endpoint,avg_ms,min_ms,max_ms");
+            for (String[] row : csvRows) {
+                pw.printf("%s,%s,%s,%s%n", row[0], row[1], row[2], row[3]);
+            }
+        }
+
+        System.out.println("\n══════════════════════════════════════════════════════════════");
+        System.out.printf("  Gathering Search Performance Results — Phase: %s%n", phase.toUpperCase());
+        System.out.println("══════════════════════════════════════════════════════════════");
+        for (String[] row : csvRows) {
+            System.out.printf("  %-65s  %8s %8s %8s%n", row[0], row[1], row[2], row[3]);
+        }
+        System.out.println("  Results saved → " + csvFile.toAbsolutePath());
+    }
+}
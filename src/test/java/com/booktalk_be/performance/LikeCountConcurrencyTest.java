@@ -0,0 +1,108 @@
+package com.booktalk_be.performance;
+
+import com.booktalk_be.domain.likes.service.LikesService;
+import com.booktalk_be.domain.member.model.entity.Member;
+import com.booktalk_be.domain.member.model.repository.MemberRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 좋아요 수 동시성 테스트
+ *
+ * 한 게시글에 여러 회원이 동시에 좋아요 등록/해제를 요청해도
+ * like_cnt가 요청 수만큼 정확히 증감해야 한다. (갱신 유실/낙관적 락 실패 없음)
+ *
+ * 테스트 종료 시 등록한 좋아요를 모두 해제하므로 like_cnt는 원래 값으로 돌아간다.
+ *
+ * 사전 조건: 로컬 MySQL(localhost:3306/booktalk)이 실행 중이어야 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LikeCountConcurrencyTest {
+
+    private static final int MEMBERS = 50;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private LikesService likesService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String boardCode;
+    private List<Member> members = List.of();
+
+    @BeforeAll
+    void setUp() {
+        List<String> boards = jdbcTemplate.queryForList(
+                "SELECT code FROM board WHERE del_yn = false ORDER BY code LIMIT 1", String.class);
+        if (boards.isEmpty()) {
+            return;
+        }
+        boardCode = boards.get(0);
+
+        // 아직 이 게시글에 좋아요를 누르지 않은 회원만 사용
+        List<Integer> memberIds = jdbcTemplate.queryForList(
+                "SELECT m.member_id FROM member m " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM likes l WHERE l.code = ? AND l.member_id = m.member_id) " +
+                        "ORDER BY m.member_id LIMIT " + MEMBERS, Integer.class, boardCode);
+        members = memberRepository.findAllById(memberIds);
+    }
+
+    private int likeCount() {
+        Integer cnt = jdbcTemplate.queryForObject("SELECT like_cnt FROM board WHERE code = ?", Integer.class, boardCode);
+        return cnt == null ? 0 : cnt;
+    }
+
+    private int runConcurrently(BiConsumer<String, Integer> action) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Member member : members) {
+            futures.add(executor.submit(() -> {
+                try {
+                    start.await();
+                    action.accept(boardCode, member.getMemberId());
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+        return failures.get();
+    }
+
+    @Test
+    @DisplayName("동시 좋아요 등록/해제 후 like_cnt가 정확히 반영된다")
+    void concurrentLikes() throws InterruptedException {
+        Assumptions.assumeTrue(boardCode != null && !members.isEmpty(), "DB에 게시글/회원 데이터 없음 → skip");
+        int before = likeCount();
+
+        int addFailures = runConcurrently(likesService::addLike);
+        assertEquals(0, addFailures);
+        assertEquals(before + members.size(), likeCount());
+
+        int removeFailures = runConcurrently(likesService::removeLike);
+        assertEquals(0, removeFailures);
+        assertEquals(before, likeCount());
+    }
+}
@@ -0,0 +1,52 @@
+package com.booktalk_be.performance;
+
+import com.booktalk_be.domain.nlk.responseDto.NlkSearchResponse;
+import com.booktalk_be.domain.nlk.service.NlkResponseDecoder;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * NLK 응답 streaming 디코더 검증
+ *
+ * 목록 배열이 여러 개인 응답에서 문서 순서와 무관하게 기존 트리 디코더의 우선순위로 목록을 고르는지 확인한다.
+ * (DB, 외부 네트워크 불필요)
+ */
+class NlkResponseDecoderTest {
+
+    private final NlkResponseDecoder decoder = new NlkResponseDecoder(new JsonFactory());
+
+    private NlkSearchResponse decode(String json) throws IOException {
+        return decoder.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), 1, 10);
+    }
+
+    @Test
+    @DisplayName("뒤에 나온 배열이라도 우선순위가 높으면 그 배열을 사용")
+    void higherRankedArrayWinsRegardlessOfOrder() throws IOException {
+        NlkSearchResponse res = decode("""
+                {"docs": [{"TITLE": "docs"}],
+                 "items": [{"title": "items"}],
+                 "result": {"total": 3, "items": [{"title_info": "result.items"}]}}
+                """);
+        assertEquals(3, res.getTotal());
+        assertEquals(1, res.getItems().size());
+        assertEquals("result.items", res.getItems().get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("우선순위가 낮은 배열은 이미 읽은 목록을 덮어쓰지 않음")
+    void lowerRankedArrayIsIgnored() throws IOException {
+        NlkSearchResponse res = decode("""
+                {"items": [{"title": "items", "control_no": "CN1"}],
+                 "channel": {"item": [{"title": "channel"}]}}
+                """);
+        assertEquals("items", res.getItems().get(0).getTitle());
+        assertEquals("CN1", res.getItems().get(0).getId());
+    }
+}
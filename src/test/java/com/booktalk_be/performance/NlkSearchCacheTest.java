@@ -0,0 +1,147 @@
+package com.booktalk_be.performance;
+
+import com.booktalk_be.domain.nlk.responseDto.NlkSearchResponse;
+import com.booktalk_be.domain.nlk.service.BookCatalogService;
+import com.booktalk_be.domain.nlk.service.NlkSearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.mockito.Mockito;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NLK 검색 캐시 / single-flight 검증
+ *
+ * 로컬 stub HTTP 서버가 NLK API를 대신하며 검색어별 upstream 호출 수를 센다.
+ * (DB, 외부 네트워크 불필요)
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NlkSearchCacheTest {
+
+    private static final long UPSTREAM_DELAY_MS = 200;
+    private static final int THREADS = 16;
+
+    private HttpServer server;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private NlkSearchService nlkSearchService;
+
+    @BeforeAll
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/search", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/search";
+        nlkSearchService = new NlkSearchService(new RestTemplate(), new ObjectMapper(),
+                Mockito.mock(BookCatalogService.class), "test-key", baseUrl, 600, 60, 100);
+    }
+
+    @AfterAll
+    void stopStub() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String kwd = "";
+        for (String param : exchange.getRequestURI().getRawQuery().split("&")) {
+            if (param.startsWith("kwd=")) {
+                kwd = URLDecoder.decode(param.substring(4), StandardCharsets.UTF_8);
+            }
+        }
+        hits.computeIfAbsent(kwd, k -> new AtomicInteger()).incrementAndGet();
+
+        try {
+            Thread.sleep(UPSTREAM_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (kwd.startsWith("fail")) {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+            return;
+        }
+        String body = kwd.startsWith("none")
+                ? "{\"total\":0,\"result\":[]}"
+                : "{\"total\":1,\"result\":[{\"title_info\":\"<b>" + kwd + "</b> 입문\",\"isbn\":\"978-89-6077-731-7\","
+                + "\"author_info\":\"홍길동\",\"pub_year_info\":\"2020\",\"pubInfo\":\"한빛\"}]}";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private int hitCount(String kwd) {
+        AtomicInteger cnt = hits.get(kwd);
+        return cnt == null ? 0 : cnt.get();
+    }
+
+    @Test
+    @DisplayName("같은 검색 조건 반복 호출 시 upstream은 1회만 호출")
+    void repeatedSearchHitsCache() {
+        for (int i = 0; i < 5; i++) {
+            NlkSearchResponse res = nlkSearchService.search("자바", 1, 20);
+            assertEquals(1, res.getItems().size());
+            assertEquals("9788960777317", res.getItems().get(0).getIsbn());
+        }
+        assertEquals(1, hitCount("자바"));
+
+        // 페이지가 다르면 별도 키
+        nlkSearchService.search("자바", 2, 20);
+        assertEquals(2, hitCount("자바"));
+    }
+
+    @Test
+    @DisplayName("동시 cache miss는 upstream 호출 1회로 합쳐짐")
+    void concurrentMissesCoalesce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<NlkSearchResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return nlkSearchService.search("스프링", 1, 20);
+            }));
+        }
+        start.countDown();
+        for (Future<NlkSearchResponse> f : futures) {
+            assertEquals(1, f.get(10, TimeUnit.SECONDS).getItems().size());
+        }
+        executor.shutdown();
+
+        assertEquals(1, hitCount("스프링"));
+    }
+
+    @Test
+    @DisplayName("결과 없는 응답도 캐시 (negative caching)")
+    void emptyResultIsCached() {
+        assertTrue(nlkSearchService.search("none-kwd", 1, 20).getItems().isEmpty());
+        assertTrue(nlkSearchService.search("none-kwd", 1, 20).getItems().isEmpty());
+        assertEquals(1, hitCount("none-kwd"));
+    }
+
+    @Test
+    @DisplayName("upstream 오류는 캐시하지 않음")
+    void failureIsNotCached() {
+        assertThrows(RuntimeException.class, () -> nlkSearchService.search("fail-kwd", 1, 20));
+        assertThrows(RuntimeException.class, () -> nlkSearchService.search("fail-kwd", 1, 20));
+        assertEquals(2, hitCount("fail-kwd"));
+    }
+}
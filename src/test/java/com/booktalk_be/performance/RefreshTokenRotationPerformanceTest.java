@@ -0,0 +1,130 @@
+package com.booktalk_be.performance;
+
+import com.booktalk_be.domain.auth.model.repository.RefreshTokenRepository;
+import com.booktalk_be.domain.auth.service.AuthService;
+import com.booktalk_be.domain.auth.service.RefreshTokenService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 리프레시 토큰 회전 비용 비교 (before / after)
+ *
+ * before: validateExistMember → deleteRefreshToken → flush → saveRefreshToken (각 단계마다 member 조회)
+ * after : rotateRefreshToken (INSERT ... ON DUPLICATE KEY UPDATE 1문장)
+ *
+ * 회전 1회당 statement 수와 평균 소요 시간을 출력하고, 회전 후 회원당 토큰이 1건인지 확인한다.
+ *
+ * 사전 조건: 로컬 MySQL(localhost:3306/booktalk)이 실행 중이어야 합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RefreshTokenRotationPerformanceTest {
+
+    private static final int WARM_UP = 20;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Integer memberId;
+    private String email;
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        List<Map<String, Object>> members = jdbcTemplate.queryForList(
+                "SELECT member_id, email FROM member ORDER BY member_id LIMIT 1");
+        if (!members.isEmpty()) {
+            memberId = ((Number) members.get(0).get("member_id")).intValue();
+            email = (String) members.get(0).get("email");
+        }
+    }
+
+    private int tokenCount() {
+        Integer cnt = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_token WHERE member_id = ?", Integer.class, memberId);
+        return cnt == null ? 0 : cnt;
+    }
+
+    private void report(String label, Runnable rotation) {
+        for (int i = 0; i < WARM_UP; i++) {
+            rotation.run();
+        }
+        statistics.clear();
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rotation.run();
+        }
+        long avgMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - t0) / ITERATIONS;
+        double statements = (double) statistics.getPrepareStatementCount() / ITERATIONS;
+        System.out.printf("  %-45s  avg=%6dus  statements/rotation=%.1f%n", label, avgMicros, statements);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("[BEFORE] exists → delete → flush → save")
+    void legacyRotation() {
+        Assumptions.assumeTrue(memberId != null, "DB에 회원 데이터 없음 → skip");
+        report("legacy (exists/delete/flush/save)", () -> transactionTemplate.executeWithoutResult(status -> {
+            if (refreshTokenService.validateExistMember(memberId)) {
+                refreshTokenService.deleteRefreshToken(memberId);
+                refreshTokenRepository.flush();
+            }
+            refreshTokenService.saveRefreshToken(memberId);
+        }));
+        assertEquals(1, tokenCount());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("[AFTER] rotateRefreshToken — 단일 upsert")
+    void upsertRotation() {
+        Assumptions.assumeTrue(memberId != null, "DB에 회원 데이터 없음 → skip");
+        report("rotateRefreshToken (upsert)", () -> transactionTemplate.executeWithoutResult(status ->
+                refreshTokenService.rotateRefreshToken(memberId, email)));
+        assertEquals(1, tokenCount());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("[AFTER] reissueToken 전체 (토큰 검증 + member 조회 + upsert)")
+    void reissue() {
+        Assumptions.assumeTrue(memberId != null, "DB에 회원 데이터 없음 → skip");
+        String[] current = {refreshTokenService.rotateRefreshToken(memberId, email)};
+        report("AuthService.reissueToken", () ->
+                current[0] = authService.reissueToken(current[0]).get("refreshToken"));
+        assertEquals(1, tokenCount());
+    }
+}
@@ -0,0 +1,65 @@
+package com.booktalk_be.performance;
+
+import com.booktalk_be.common.command.CountStrategy;
+import com.booktalk_be.common.responseDto.TotalCount;
+import com.booktalk_be.common.service.RowCountEstimator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EXPLAIN 기반 총 개수 추정 검증
+ *
+ * 인덱스 range 접근 plan만 rows × filtered로 추정하고,
+ * 풀 스캔 plan(reg_time 기간 조건 등)은 추정하지 않아 ESTIMATED가 CAPPED로 대체되는지 확인한다.
+ * EXPLAIN 결과는 고정 plan을 돌려주는 JdbcTemplate으로 대신한다. (DB 불필요)
+ */
+class RowCountEstimatorTest {
+
+    private static RowCountEstimator estimatorReturning(String type, long rows, double filtered) {
+        return new RowCountEstimator(new JdbcTemplate() {
+            @Override
+            public List<Map<String, Object>> queryForList(String sql, Object... args) {
+                return List.of(Map.of("type", type, "rows", rows, "filtered", filtered));
+            }
+        });
+    }
+
+    private static TotalCount estimatedTotal(RowCountEstimator estimator) {
+        return TotalCount.resolve(CountStrategy.ESTIMATED, 1000,
+                () -> {
+                    throw new AssertionError("ESTIMATED는 COUNT(*)를 실행하지 않음");
+                },
+                limit -> 1001,
+                () -> estimator.estimate("SELECT 1 FROM board WHERE reg_time >= ?", "2025-01-01"));
+    }
+
+    @Test
+    @DisplayName("range 접근 plan은 rows × filtered로 추정")
+    void rangePlanIsEstimated() {
+        RowCountEstimator estimator = estimatorReturning("range", 20_000, 50.0);
+        assertEquals(OptionalLong.of(10_000), estimator.estimate("SELECT 1 FROM reply WHERE post_code LIKE ?", "BO\\_%"));
+
+        TotalCount total = estimatedTotal(estimator);
+        assertEquals(10_000, total.value());
+        assertTrue(total.approximate());
+    }
+
+    @Test
+    @DisplayName("풀 스캔 plan은 추정하지 않고 CAPPED로 대체")
+    void fullScanFallsBackToCapped() {
+        // 기간 조건만 있는 board 조회: rows=테이블 전체, filtered=고정 휴리스틱
+        RowCountEstimator estimator = estimatorReturning("ALL", 1_000_000, 11.11);
+        assertEquals(OptionalLong.empty(), estimator.estimate("SELECT 1 FROM board WHERE reg_time >= ?", "2025-01-01"));
+
+        TotalCount total = estimatedTotal(estimator);
+        assertEquals(1000, total.value());
+        assertTrue(total.approximate());
+    }
+}